@@ -2,7 +2,10 @@ package de.swiftbyte.jdaboot;
 
 
 import de.swiftbyte.jdaboot.annotation.JDABootConfiguration;
+import de.swiftbyte.jdaboot.cluster.ClusterNode;
 import de.swiftbyte.jdaboot.configuration.ConfigProvider;
+import de.swiftbyte.jdaboot.interaction.command.CommandManager;
+import de.swiftbyte.jdaboot.interaction.command.GuildCommandDeployment;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -13,9 +16,16 @@ import net.dv8tion.jda.api.exceptions.InvalidTokenException;
 import net.dv8tion.jda.api.hooks.VoiceDispatchInterceptor;
 import net.dv8tion.jda.api.interactions.commands.build.CommandData;
 import net.dv8tion.jda.api.requests.GatewayIntent;
+import net.dv8tion.jda.api.sharding.DefaultShardManagerBuilder;
+import net.dv8tion.jda.api.sharding.ShardManager;
+import net.dv8tion.jda.api.utils.ConcurrentSessionController;
 import net.dv8tion.jda.api.utils.cache.CacheFlag;
 
 import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 
@@ -35,9 +45,30 @@ public class JDABoot {
     @Getter(AccessLevel.PROTECTED)
     private static HashMap<String, String> startupArgs;
 
+    /**
+     * The JDA instance of the bot. If the bot is sharded, this is the shard with the lowest ID started by this process.
+     *
+     * @since alpha.4
+     */
     @Getter
     private JDA jda;
 
+    /**
+     * The ShardManager of the bot, or null if the bot is not sharded.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private ShardManager shardManager;
+
+    /**
+     * The connection to Discord, backed by the JDA instance or the ShardManager.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private JDABootConnection connection;
+
     private Class<?> mainClass;
 
     private ConfigProvider configProvider;
@@ -66,13 +97,25 @@ public class JDABoot {
     }
 
     /**
-     * Updates the bot's commands.
+     * Updates the bot's commands. Like {@link JDA#updateCommands()} without any commands, this removes all global
+     * commands of the bot. They are sent again on the next start or with {@link #synchronizeCommands()}.
      *
      * @see JDA#updateCommands()
+     * @see CommandManager#clearGlobalCommands()
      * @since alpha.2
      */
     public void updateCommands() {
-        jda.updateCommands().queue();
+        JDABootConfigurationManager.getCommandManager().clearGlobalCommands();
+    }
+
+    /**
+     * Sends all global commands to Discord in a single request, even if they did not change since the last update.
+     *
+     * @see CommandManager#synchronizeGlobalCommands(boolean)
+     * @since 1.0.0-beta.1
+     */
+    public void synchronizeCommands() {
+        JDABootConfigurationManager.getCommandManager().synchronizeGlobalCommands(true);
     }
 
     /**
@@ -83,7 +126,7 @@ public class JDABoot {
      * @since alpha.2
      */
     public void updateCommands(String guildId) {
-        jda.getGuildById(guildId).updateCommands().queue();
+        connection.getGuildById(guildId).updateCommands().queue();
     }
 
     /**
@@ -95,7 +138,49 @@ public class JDABoot {
      * @since alpha.2
      */
     public void registerCommand(String guildId, String commandId) {
-        jda.getGuildById(guildId).upsertCommand(JDABootConfigurationManager.getCommandManager().getCommandData().get(commandId)).queue();
+        connection.getGuildById(guildId).upsertCommand(JDABootConfigurationManager.getCommandManager().getCommandData().get(commandId)).queue();
+    }
+
+    /**
+     * Deploys the guild commands to all guilds of this process.
+     *
+     * @return The started deployment.
+     * @see #deployGuildCommands(Collection)
+     * @since 1.0.0-beta.1
+     */
+    public GuildCommandDeployment deployGuildCommands() {
+        List<Long> guildIds = new ArrayList<>();
+        connection.getGuildCache().forEach(guild -> guildIds.add(guild.getIdLong()));
+        return deployGuildCommands(guildIds);
+    }
+
+    /**
+     * Deploys the commands that are not global to the specified guilds. Every guild receives all guild commands in a
+     * single request, replacing the commands it had. The progress is recorded in the file configured with
+     * {@code jdaboot.commands.deployment-file}, so a deployment that was interrupted continues where it stopped.
+     * If the bot is a cluster node, the ID of the node is appended to the file name.
+     *
+     * @param guildIds The IDs of the guilds.
+     * @return The started deployment.
+     * @see GuildCommandDeployment
+     * @since 1.0.0-beta.1
+     */
+    public GuildCommandDeployment deployGuildCommands(Collection<Long> guildIds) {
+        String stateFileName = configProvider.getString("jdaboot.commands.deployment-file", "guild-commands.deployment");
+        Path stateFile = null;
+        if (!stateFileName.isBlank()) {
+            stateFile = Path.of(stateFileName);
+            ClusterNode clusterNode = JDABootConfigurationManager.getClusterNode();
+            if (clusterNode != null) {
+                // Every node deploys its own guilds, so the nodes must not share their state.
+                stateFile = stateFile.resolveSibling(stateFile.getFileName() + ".node-" + clusterNode.getNodeId());
+            }
+        }
+        GuildCommandDeployment deployment = new GuildCommandDeployment(connection, JDABootConfigurationManager.getCommandManager().getGuildCommandData(),
+                guildIds, stateFile, configProvider.getInt("jdaboot.commands.deployment-workers", 2),
+                Duration.ofMillis(configProvider.getInt("jdaboot.commands.deployment-delay", 250)));
+        deployment.start();
+        return deployment;
     }
 
     /**
@@ -137,7 +222,7 @@ public class JDABoot {
     }
 
     /**
-     * Private method to log in to Discord.
+     * Private method to log in to Discord. Builds a single JDA instance, or a ShardManager if sharding is enabled.
      *
      * @throws InterruptedException  If the login process is interrupted.
      * @throws InvalidTokenException If the provided token is invalid.
@@ -145,50 +230,96 @@ public class JDABoot {
      */
     private void discordLogin() throws InterruptedException, InvalidTokenException {
         log.info("Logging in to Discord...");
-        JDABuilder builder = JDABuilder.createDefault(configProvider.getString("discord.token"));
+        String token = configProvider.getString("discord.token");
 
         List<GatewayIntent> allow = JDABootConfigurationManager.getIntents();
 
-        List<CacheFlag> disabledCacheFlags = JDABootConfigurationManager.getDisabledCacheFlags();
-
-        for (CacheFlag cacheFlag : JDABootConfigurationManager.getEnabledCacheFlags()) {
-            builder.enableCache(cacheFlag);
-        }
-
-        for (CacheFlag cacheFlag : disabledCacheFlags) {
-            builder.disableCache(cacheFlag);
-        }
+        List<CacheFlag> disabledCacheFlags = new ArrayList<>(JDABootConfigurationManager.getDisabledCacheFlags());
 
         if (!allow.contains(GatewayIntent.GUILD_VOICE_STATES)) {
-            builder.disableCache(CacheFlag.VOICE_STATE);
+            disabledCacheFlags.add(CacheFlag.VOICE_STATE);
         }
         if (!allow.contains(GatewayIntent.GUILD_EXPRESSIONS)) {
-            builder.disableCache(CacheFlag.EMOJI, CacheFlag.STICKER);
+            disabledCacheFlags.add(CacheFlag.EMOJI);
+            disabledCacheFlags.add(CacheFlag.STICKER);
         }
         if (!allow.contains(GatewayIntent.SCHEDULED_EVENTS)) {
-            builder.disableCache(CacheFlag.SCHEDULED_EVENTS);
+            disabledCacheFlags.add(CacheFlag.SCHEDULED_EVENTS);
         }
 
-        builder.setMemberCachePolicy(JDABootConfigurationManager.getMemberCachePolicy());
-
-        if (allow.isEmpty()) {
-            builder.setEnabledIntents(GatewayIntent.getIntents(GatewayIntent.DEFAULT));
-        } else {
-            builder.setEnabledIntents(allow);
+        Collection<GatewayIntent> intents = allow;
+        if (allow.isEmpty() && !JDABootConfigurationManager.isAutoIntents()) {
+            intents = GatewayIntent.getIntents(GatewayIntent.DEFAULT);
         }
 
+        VoiceDispatchInterceptor voiceDispatchInterceptor = null;
         for (Method declaredMethod : mainClass.getDeclaredMethods()) {
             if (declaredMethod.getName().equalsIgnoreCase("getVoiceDispatchInterceptor")) {
                 if (VoiceDispatchInterceptor.class.isAssignableFrom(declaredMethod.getReturnType())) {
-                    builder.setVoiceDispatchInterceptor((VoiceDispatchInterceptor) JDABootObjectManager.runMethod(mainClass, declaredMethod));
+                    voiceDispatchInterceptor = (VoiceDispatchInterceptor) JDABootObjectManager.runMethod(mainClass, declaredMethod);
                 }
             }
         }
 
-        this.jda = builder.build();
-        JDABootConfigurationManager.initialiseManagers(mainClass, jda);
-        JDABootConfigurationManager.initialiseGlobalVariables(jda);
-        jda.awaitReady();
+        if (JDABootConfigurationManager.isSharding()) {
+            DefaultShardManagerBuilder builder = DefaultShardManagerBuilder.createDefault(token);
+
+            for (CacheFlag cacheFlag : JDABootConfigurationManager.getEnabledCacheFlags()) {
+                builder.enableCache(cacheFlag);
+            }
+            for (CacheFlag cacheFlag : disabledCacheFlags) {
+                builder.disableCache(cacheFlag);
+            }
+            builder.setMemberCachePolicy(JDABootConfigurationManager.getMemberCachePolicy());
+            builder.setEnabledIntents(intents);
+            if (voiceDispatchInterceptor != null) {
+                builder.setVoiceDispatchInterceptor(voiceDispatchInterceptor);
+            }
+
+            if (JDABootConfigurationManager.getShardTotal() > 0) {
+                builder.setShardsTotal(JDABootConfigurationManager.getShardTotal());
+            }
+            if (!JDABootConfigurationManager.getShardIds().isEmpty()) {
+                builder.setShards(JDABootConfigurationManager.getShardIds());
+            }
+
+            if (JDABootConfigurationManager.getClusterNode() != null) {
+                builder.setSessionController(JDABootConfigurationManager.getClusterNode().createSessionController(JDABootConfigurationManager.getLoginConcurrency()));
+            } else {
+                ConcurrentSessionController sessionController = new ConcurrentSessionController();
+                sessionController.setConcurrency(JDABootConfigurationManager.getLoginConcurrency());
+                builder.setSessionController(sessionController);
+            }
+
+            log.info("Starting shards {} of {} with a login concurrency of {}",
+                    JDABootConfigurationManager.getShardIds().isEmpty() ? "all" : JDABootConfigurationManager.getShardIds(),
+                    JDABootConfigurationManager.getShardTotal() > 0 ? JDABootConfigurationManager.getShardTotal() : "recommended",
+                    JDABootConfigurationManager.getLoginConcurrency());
+
+            this.shardManager = builder.build();
+            this.connection = JDABootConnection.of(shardManager);
+        } else {
+            JDABuilder builder = JDABuilder.createDefault(token);
+
+            for (CacheFlag cacheFlag : JDABootConfigurationManager.getEnabledCacheFlags()) {
+                builder.enableCache(cacheFlag);
+            }
+            for (CacheFlag cacheFlag : disabledCacheFlags) {
+                builder.disableCache(cacheFlag);
+            }
+            builder.setMemberCachePolicy(JDABootConfigurationManager.getMemberCachePolicy());
+            builder.setEnabledIntents(intents);
+            if (voiceDispatchInterceptor != null) {
+                builder.setVoiceDispatchInterceptor(voiceDispatchInterceptor);
+            }
+
+            this.connection = JDABootConnection.of(builder.build());
+        }
+
+        this.jda = connection.getPrimaryJDA();
+        JDABootConfigurationManager.initialiseManagers(connection);
+        JDABootConfigurationManager.initialiseGlobalVariables(connection);
+        connection.awaitReady();
 
         for (Method declaredMethod : mainClass.getDeclaredMethods()) {
             if (declaredMethod.getName().equalsIgnoreCase("onReady")) {
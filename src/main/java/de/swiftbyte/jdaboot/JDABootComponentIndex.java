@@ -0,0 +1,342 @@
+package de.swiftbyte.jdaboot;
+
+import de.swiftbyte.jdaboot.annotation.EventHandler;
+import de.swiftbyte.jdaboot.annotation.Scheduler;
+import de.swiftbyte.jdaboot.annotation.SetValue;
+import de.swiftbyte.jdaboot.annotation.cli.ConsoleCommandDefinition;
+import de.swiftbyte.jdaboot.annotation.embed.Embed;
+import de.swiftbyte.jdaboot.annotation.interaction.button.ButtonByClass;
+import de.swiftbyte.jdaboot.annotation.interaction.button.ButtonById;
+import de.swiftbyte.jdaboot.annotation.interaction.button.ButtonDefinition;
+import de.swiftbyte.jdaboot.annotation.interaction.command.SlashCommandDefinition;
+import de.swiftbyte.jdaboot.annotation.interaction.modal.ModalByClass;
+import de.swiftbyte.jdaboot.annotation.interaction.modal.ModalById;
+import de.swiftbyte.jdaboot.annotation.interaction.modal.ModalDefinition;
+import de.swiftbyte.jdaboot.annotation.interaction.selection.*;
+import de.swiftbyte.jdaboot.processor.ComponentIndexProcessor;
+import de.swiftbyte.jdaboot.processor.ComponentRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.reflections.Reflections;
+import org.reflections.scanners.Scanners;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * The JDABootComponentIndex class holds the result of a single classpath scan of the project.
+ * It maps every JDA-Boot annotation to the types, fields and methods carrying it, so the managers
+ * do not have to scan the classpath on their own.
+ * <p>
+ * If the project was compiled with the {@link ComponentIndexProcessor}, the index is created from the generated
+ * {@link ComponentRegistry} and no classpath scan is performed at all, unless the registry turns out to be out of date.
+ *
+ * @since 1.0.0-beta.1
+ */
+@Slf4j
+public class JDABootComponentIndex {
+
+    /**
+     * The annotations that are indexed on types.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public static final List<Class<? extends Annotation>> TYPE_ANNOTATIONS = List.of(
+            SlashCommandDefinition.class,
+            ButtonDefinition.class,
+            ModalDefinition.class,
+            StringSelectMenuDefinition.class,
+            EntitySelectMenuDefinition.class,
+            ConsoleCommandDefinition.class
+    );
+
+    /**
+     * The annotations that are indexed on fields.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public static final List<Class<? extends Annotation>> FIELD_ANNOTATIONS = List.of(
+            ButtonById.class,
+            ButtonByClass.class,
+            ModalById.class,
+            ModalByClass.class,
+            SelectMenuById.class,
+            StringSelectMenuByClass.class,
+            EntitySelectMenuByClass.class,
+            Embed.class,
+            SetValue.class
+    );
+
+    /**
+     * The annotations that are indexed on methods.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public static final List<Class<? extends Annotation>> METHOD_ANNOTATIONS = List.of(
+            EventHandler.class,
+            Scheduler.class
+    );
+
+    private final Map<Class<? extends Annotation>, Set<Class<?>>> types;
+
+    private final Map<Class<? extends Annotation>, Set<Field>> fields;
+
+    private final Map<Class<? extends Annotation>, Set<Method>> methods;
+
+    /**
+     * Constructor for JDABootComponentIndex. Creates an immutable copy of the specified maps.
+     *
+     * @param types   The annotated types, grouped by annotation.
+     * @param fields  The annotated fields, grouped by annotation.
+     * @param methods The annotated methods, grouped by annotation.
+     * @since 1.0.0-beta.1
+     */
+    protected JDABootComponentIndex(Map<Class<? extends Annotation>, Set<Class<?>>> types,
+                                    Map<Class<? extends Annotation>, Set<Field>> fields,
+                                    Map<Class<? extends Annotation>, Set<Method>> methods) {
+        this.types = copyOf(types);
+        this.fields = copyOf(fields);
+        this.methods = copyOf(methods);
+    }
+
+    /**
+     * Creates the index for the specified main class. The generated component registry is used if it is present,
+     * otherwise the package of the main class is scanned.
+     *
+     * @param mainClass      The main class of your project.
+     * @param allowGenerated Whether a generated component registry may be used instead of scanning the classpath.
+     * @return The created index.
+     * @since 1.0.0-beta.1
+     */
+    public static JDABootComponentIndex load(Class<?> mainClass, boolean allowGenerated) {
+        if (allowGenerated) {
+            JDABootComponentIndex index = fromGeneratedRegistries(mainClass);
+            if (index != null) {
+                return index;
+            }
+        }
+        return scan(mainClass);
+    }
+
+    /**
+     * Creates the index from the generated component registries of the project.
+     * Registries of other projects on the classpath are ignored and only elements inside the package of the main class
+     * are taken over, matching the behaviour of the classpath scan.
+     * <p>
+     * Every element of the registry must still carry its annotation. If an element cannot be found or lost its annotation,
+     * the registry is out of date, for example after an incremental build, and null is returned so the classpath is scanned.
+     *
+     * @param mainClass The main class of your project.
+     * @return The created index, or null if no registry was found or it could not be resolved.
+     * @since 1.0.0-beta.1
+     */
+    public static JDABootComponentIndex fromGeneratedRegistries(Class<?> mainClass) {
+        ClassLoader classLoader = mainClass.getClassLoader();
+        String mainPackage = mainClass.getPackageName();
+        String packagePrefix = mainPackage.isEmpty() ? "" : mainPackage + ".";
+
+        Map<Class<? extends Annotation>, Set<Class<?>>> types = new HashMap<>();
+        Map<Class<? extends Annotation>, Set<Field>> fields = new HashMap<>();
+        Map<Class<? extends Annotation>, Set<Method>> methods = new HashMap<>();
+        boolean found = false;
+
+        try {
+            Enumeration<URL> resources = classLoader.getResources(ComponentRegistry.RESOURCE_NAME);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                ComponentRegistry registry;
+                try (Reader reader = new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8)) {
+                    registry = ComponentRegistry.read(reader);
+                }
+
+                String registryPackage = registry.getPackageName();
+                if (!isInPackage(registryPackage, mainPackage) && !isInPackage(mainPackage, registryPackage)) {
+                    continue;
+                }
+                found = true;
+
+                for (Class<? extends Annotation> annotation : TYPE_ANNOTATIONS) {
+                    for (String entry : registry.getTypes().getOrDefault(annotation.getName(), Set.of())) {
+                        if (entry.startsWith(packagePrefix)) {
+                            Class<?> type = Class.forName(entry, false, classLoader);
+                            checkAnnotated(type, annotation, entry);
+                            types.computeIfAbsent(annotation, key -> new HashSet<>()).add(type);
+                        }
+                    }
+                }
+
+                for (Class<? extends Annotation> annotation : FIELD_ANNOTATIONS) {
+                    for (String entry : registry.getFields().getOrDefault(annotation.getName(), Set.of())) {
+                        if (entry.startsWith(packagePrefix)) {
+                            String[] parts = entry.split("#");
+                            Field field = Class.forName(parts[0], false, classLoader).getDeclaredField(parts[1]);
+                            checkAnnotated(field, annotation, entry);
+                            fields.computeIfAbsent(annotation, key -> new HashSet<>()).add(field);
+                        }
+                    }
+                }
+
+                for (Class<? extends Annotation> annotation : METHOD_ANNOTATIONS) {
+                    for (String entry : registry.getMethods().getOrDefault(annotation.getName(), Set.of())) {
+                        if (entry.startsWith(packagePrefix)) {
+                            Method method = resolveMethod(entry, classLoader);
+                            checkAnnotated(method, annotation, entry);
+                            methods.computeIfAbsent(annotation, key -> new HashSet<>()).add(method);
+                        }
+                    }
+                }
+            }
+        } catch (IOException | ReflectiveOperationException | LinkageError e) {
+            log.warn("The generated component registry is out of date or could not be read, falling back to classpath scanning!", e);
+            return null;
+        }
+
+        if (!found) {
+            return null;
+        }
+
+        log.info("Using generated component registry for package '{}'", mainPackage);
+        return new JDABootComponentIndex(types, fields, methods);
+    }
+
+    /**
+     * Returns whether the specified package is the other package or one of its subpackages.
+     *
+     * @param packageName The package to check.
+     * @param parent      The package that may contain it, or an empty string for the unnamed package.
+     * @return true if the package is inside the parent package.
+     * @since 1.0.0-beta.1
+     */
+    private static boolean isInPackage(String packageName, String parent) {
+        return parent.isEmpty() || packageName.equals(parent) || packageName.startsWith(parent + ".");
+    }
+
+    private static void checkAnnotated(AnnotatedElement element, Class<? extends Annotation> annotation, String entry) throws ReflectiveOperationException {
+        if (!element.isAnnotationPresent(annotation)) {
+            throw new ReflectiveOperationException(entry + " is no longer annotated with @" + annotation.getSimpleName());
+        }
+    }
+
+    /**
+     * Resolves a method from its registry entry in the form {@code com.example.Owner#method(com.example.Parameter)}.
+     *
+     * @param entry       The registry entry of the method.
+     * @param classLoader The class loader to resolve the classes with.
+     * @return The resolved method.
+     * @throws ReflectiveOperationException If the owner, a parameter type or the method itself could not be found.
+     * @since 1.0.0-beta.1
+     */
+    private static Method resolveMethod(String entry, ClassLoader classLoader) throws ReflectiveOperationException {
+        int separator = entry.indexOf('#');
+        int parameterStart = entry.indexOf('(', separator);
+
+        Class<?> owner = Class.forName(entry.substring(0, separator), false, classLoader);
+        String name = entry.substring(separator + 1, parameterStart);
+        String parameterList = entry.substring(parameterStart + 1, entry.length() - 1);
+
+        List<Class<?>> parameterTypes = new ArrayList<>();
+        if (!parameterList.isEmpty()) {
+            for (String parameter : parameterList.split(",")) {
+                parameterTypes.add(resolveType(parameter, classLoader));
+            }
+        }
+        return owner.getDeclaredMethod(name, parameterTypes.toArray(new Class<?>[0]));
+    }
+
+    private static Class<?> resolveType(String name, ClassLoader classLoader) throws ClassNotFoundException {
+        if (name.endsWith("[]")) {
+            return Array.newInstance(resolveType(name.substring(0, name.length() - 2), classLoader), 0).getClass();
+        }
+        return switch (name) {
+            case "int" -> int.class;
+            case "long" -> long.class;
+            case "short" -> short.class;
+            case "double" -> double.class;
+            case "float" -> float.class;
+            case "byte" -> byte.class;
+            case "boolean" -> boolean.class;
+            case "char" -> char.class;
+            default -> Class.forName(name, false, classLoader);
+        };
+    }
+
+    /**
+     * Scans the package of the specified main class once and indexes all JDA-Boot annotations found in it.
+     *
+     * @param mainClass The main class of your project.
+     * @return The created index.
+     * @since 1.0.0-beta.1
+     */
+    public static JDABootComponentIndex scan(Class<?> mainClass) {
+        long start = System.currentTimeMillis();
+
+        Reflections reflections = new Reflections(mainClass.getPackageName(), Scanners.SubTypes, Scanners.TypesAnnotated,
+                Scanners.FieldsAnnotated, Scanners.MethodsAnnotated);
+
+        Map<Class<? extends Annotation>, Set<Class<?>>> types = new HashMap<>();
+        for (Class<? extends Annotation> annotation : TYPE_ANNOTATIONS) {
+            types.put(annotation, reflections.getTypesAnnotatedWith(annotation));
+        }
+
+        Map<Class<? extends Annotation>, Set<Field>> fields = new HashMap<>();
+        for (Class<? extends Annotation> annotation : FIELD_ANNOTATIONS) {
+            fields.put(annotation, reflections.getFieldsAnnotatedWith(annotation));
+        }
+
+        Map<Class<? extends Annotation>, Set<Method>> methods = new HashMap<>();
+        for (Class<? extends Annotation> annotation : METHOD_ANNOTATIONS) {
+            methods.put(annotation, reflections.getMethodsAnnotatedWith(annotation));
+        }
+
+        JDABootComponentIndex index = new JDABootComponentIndex(types, fields, methods);
+        log.info("Scanned package '{}' in {} ms", mainClass.getPackageName(), System.currentTimeMillis() - start);
+        return index;
+    }
+
+    /**
+     * Returns all types annotated with the specified annotation.
+     *
+     * @param annotation The annotation to look up.
+     * @return An unmodifiable set of the annotated types, empty if there are none.
+     * @since 1.0.0-beta.1
+     */
+    public Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation) {
+        return types.getOrDefault(annotation, Set.of());
+    }
+
+    /**
+     * Returns all fields annotated with the specified annotation.
+     *
+     * @param annotation The annotation to look up.
+     * @return An unmodifiable set of the annotated fields, empty if there are none.
+     * @since 1.0.0-beta.1
+     */
+    public Set<Field> getFieldsAnnotatedWith(Class<? extends Annotation> annotation) {
+        return fields.getOrDefault(annotation, Set.of());
+    }
+
+    /**
+     * Returns all methods annotated with the specified annotation.
+     *
+     * @param annotation The annotation to look up.
+     * @return An unmodifiable set of the annotated methods, empty if there are none.
+     * @since 1.0.0-beta.1
+     */
+    public Set<Method> getMethodsAnnotatedWith(Class<? extends Annotation> annotation) {
+        return methods.getOrDefault(annotation, Set.of());
+    }
+
+    private static <T> Map<Class<? extends Annotation>, Set<T>> copyOf(Map<Class<? extends Annotation>, Set<T>> map) {
+        Map<Class<? extends Annotation>, Set<T>> copy = new HashMap<>();
+        map.forEach((annotation, elements) -> copy.put(annotation, Set.copyOf(elements)));
+        return Map.copyOf(copy);
+    }
+}
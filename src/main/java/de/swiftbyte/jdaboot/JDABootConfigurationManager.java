@@ -1,31 +1,52 @@
 package de.swiftbyte.jdaboot;
 
 import de.swiftbyte.jdaboot.annotation.JDABootConfiguration;
+import de.swiftbyte.jdaboot.annotation.interaction.command.SlashCommandDefinition;
 import de.swiftbyte.jdaboot.cli.ConsoleCommandManager;
+import de.swiftbyte.jdaboot.cluster.ClusterNode;
 import de.swiftbyte.jdaboot.configuration.ConfigProvider;
 import de.swiftbyte.jdaboot.configuration.ConfigProviderChain;
 import de.swiftbyte.jdaboot.configuration.ConfigValueManager;
 import de.swiftbyte.jdaboot.embed.EmbedManager;
 import de.swiftbyte.jdaboot.event.EventManager;
+import de.swiftbyte.jdaboot.execution.ExecutorType;
+import de.swiftbyte.jdaboot.execution.SerialLaneExecutor;
+import de.swiftbyte.jdaboot.execution.WorkerExecutor;
+import de.swiftbyte.jdaboot.interaction.ComponentRouter;
+import de.swiftbyte.jdaboot.interaction.ComponentVariableStore;
+import de.swiftbyte.jdaboot.interaction.InteractionWatchdog;
+import de.swiftbyte.jdaboot.interaction.PersistentComponentVariableStore;
+import de.swiftbyte.jdaboot.interaction.VariableTransferMode;
 import de.swiftbyte.jdaboot.interaction.button.ButtonManager;
 import de.swiftbyte.jdaboot.interaction.command.CommandManager;
 import de.swiftbyte.jdaboot.interaction.modal.ModalManager;
 import de.swiftbyte.jdaboot.interaction.selection.SelectMenuManager;
 import de.swiftbyte.jdaboot.scheduler.SchedulerManager;
 import de.swiftbyte.jdaboot.variables.GlobalVariables;
+import de.swiftbyte.jdaboot.variables.TranslationProcessor;
 import de.swiftbyte.jdaboot.variables.TranslationProvider;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.session.ShutdownEvent;
+import net.dv8tion.jda.api.hooks.EventListener;
 import net.dv8tion.jda.api.requests.GatewayIntent;
 import net.dv8tion.jda.api.utils.MemberCachePolicy;
 import net.dv8tion.jda.api.utils.cache.CacheFlag;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Manages the configuration for the JDABoot framework.
@@ -58,6 +79,31 @@ public class JDABootConfigurationManager {
     @Getter(AccessLevel.PROTECTED)
     private static MemberCachePolicy memberCachePolicy;
 
+    @Getter(AccessLevel.PROTECTED)
+    private static boolean autoIntents;
+
+    private static MemberCachePolicyConfiguration memberCachePolicyConfiguration;
+
+    @Getter(AccessLevel.PROTECTED)
+    private static boolean sharding;
+
+    @Getter(AccessLevel.PROTECTED)
+    private static int shardTotal;
+
+    @Getter(AccessLevel.PROTECTED)
+    private static List<Integer> shardIds;
+
+    @Getter(AccessLevel.PROTECTED)
+    private static int loginConcurrency;
+
+    /**
+     * The node of the cluster this process belongs to, or null if the shards are not spread over several processes.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private static ClusterNode clusterNode;
+
 
     /**
      * The configuration provider chain used to retrieve configuration values.
@@ -90,6 +136,104 @@ public class JDABootConfigurationManager {
     @Getter(AccessLevel.PUBLIC)
     private static SelectMenuManager selectMenuManager;
 
+    /**
+     * The index of all JDA-Boot annotations found in the project, created once on startup.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private static JDABootComponentIndex componentIndex;
+
+    /**
+     * The executor that asynchronous event handlers run on. Exposes the queue depth and rejection counters.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private static WorkerExecutor eventExecutor;
+
+    /**
+     * The serial lanes that ordered event handlers run on.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private static SerialLaneExecutor eventLanes;
+
+    /**
+     * The default execution model of commands.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private static SlashCommandDefinition.Execution commandExecution;
+
+    /**
+     * The bounded pool that commands with the pool execution model run on.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private static WorkerExecutor commandExecutor;
+
+    /**
+     * The executor that starts a virtual thread per command invocation.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private static WorkerExecutor commandVirtualThreadExecutor;
+
+    /**
+     * The serial lanes that commands with the guild lanes execution model run on.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private static SerialLaneExecutor commandLanes;
+
+    /**
+     * The watchdog that defers interactions which are not acknowledged in time.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private static InteractionWatchdog interactionWatchdog;
+
+    /**
+     * The store that holds the variables of buttons, select menus and modals until they are used.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private static ComponentVariableStore componentVariableStore;
+
+    /**
+     * The default mode in which the variables of buttons, select menus and modals are transferred.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private static VariableTransferMode componentVariableTransferMode;
+
+    /**
+     * The store that keeps the variables of buttons, select menus and modals on disk, or null if it is not configured.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private static PersistentComponentVariableStore persistentComponentVariableStore;
+
+    /**
+     * The router that passes the interactions of buttons, select menus and modals to their executors.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private static ComponentRouter componentRouter;
+
+    private static EmbedManager embedManager;
+
     private static boolean consoleCommandsEnabled;
 
 
@@ -105,6 +249,10 @@ public class JDABootConfigurationManager {
             jdaBootConfiguration = JDABoot.class.getAnnotation(JDABootConfiguration.class);
         }
         applyConfiguration(jdaBootConfiguration);
+        componentIndex = JDABootComponentIndex.load(mainClass, configProviderChain.getBoolean("jdaboot.generated-index", true));
+        if (autoIntents) {
+            deriveIntents();
+        }
     }
 
     /**
@@ -132,47 +280,240 @@ public class JDABootConfigurationManager {
             System.exit(1);
         }
 
+        if (configProviderChain.getBoolean("jdaboot.translations.preload", false) && !TranslationProcessor.getCache().preload()) {
+            log.warn("The translation provider {} cannot list its translations, they are loaded when they are used", translationProvider.getClass().getSimpleName());
+        }
+
         intents = List.of(jdaBootConfiguration.intents());
         enabledCacheFlags = List.of(jdaBootConfiguration.enabledCacheFlags());
         disabledCacheFlags = List.of(jdaBootConfiguration.disabledCacheFlags());
-        memberCachePolicy = jdaBootConfiguration.memberCachePolicy().getJDAUtilsMemberCachePolicy();
+        memberCachePolicyConfiguration = jdaBootConfiguration.memberCachePolicy();
+        memberCachePolicy = memberCachePolicyConfiguration.getJDAUtilsMemberCachePolicy();
+        autoIntents = jdaBootConfiguration.autoIntents();
+
+        sharding = configProviderChain.getBoolean("jdaboot.sharding", jdaBootConfiguration.sharding());
+        shardTotal = configProviderChain.getInt("jdaboot.sharding.total", jdaBootConfiguration.shardTotal());
+        loginConcurrency = Math.max(1, configProviderChain.getInt("jdaboot.sharding.concurrency", jdaBootConfiguration.loginConcurrency()));
+        try {
+            shardIds = parseShardIds(configProviderChain.getString("jdaboot.sharding.shards", jdaBootConfiguration.shards()));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid shard list: {}", e.getMessage());
+            System.exit(1);
+        }
+
+        String node = JDABoot.getStartupArgs().getOrDefault("node", configProviderChain.getString("jdaboot.cluster.node", null));
+        if (node != null) {
+            if (shardTotal < 1) {
+                log.error("Running as a cluster node requires the total number of shards. Set jdaboot.sharding.total or shardTotal.");
+                System.exit(1);
+            }
+            try {
+                int nodeCount = Integer.parseInt(JDABoot.getStartupArgs().getOrDefault("nodes", configProviderChain.getString("jdaboot.cluster.nodes", "1")));
+                clusterNode = new ClusterNode(Integer.parseInt(node), nodeCount, shardTotal,
+                        Path.of(configProviderChain.getString("jdaboot.cluster.directory", "cluster")),
+                        configProviderChain.getInt("jdaboot.cluster.stats-interval", 15));
+            } catch (IOException | IllegalArgumentException e) {
+                log.error("Failed to set up the cluster node", e);
+                System.exit(1);
+            }
+            sharding = true;
+            shardIds = clusterNode.getShardIds();
+        }
+
+        if (sharding && !shardIds.isEmpty() && shardTotal < 1) {
+            log.error("A shard list is configured, but the total number of shards is not. Set jdaboot.sharding.total or shardTotal.");
+            System.exit(1);
+        }
 
         consoleCommandsEnabled = jdaBootConfiguration.enableConsoleCommands();
+
+        componentVariableStore = new ComponentVariableStore(jdaBootConfiguration.componentVariableStoreSize(),
+                Duration.ofSeconds(jdaBootConfiguration.componentVariableTimeToLive()), jdaBootConfiguration.componentVariableEvictionPolicy());
+        componentVariableTransferMode = jdaBootConfiguration.componentVariableTransfer() == VariableTransferMode.DEFAULT
+                ? VariableTransferMode.STORE : jdaBootConfiguration.componentVariableTransfer();
+
+        String variableDirectory = configProviderChain.getString("jdaboot.component-variables.directory", "");
+        if (!variableDirectory.isBlank()) {
+            Path directory = Path.of(variableDirectory);
+            if (clusterNode != null) {
+                directory = directory.resolve("node-" + clusterNode.getNodeId());
+            }
+            try {
+                persistentComponentVariableStore = new PersistentComponentVariableStore(directory,
+                        Duration.ofSeconds(jdaBootConfiguration.componentVariableTimeToLive()),
+                        Duration.ofSeconds(configProviderChain.getInt("jdaboot.component-variables.compaction-interval", 3600)));
+            } catch (IOException e) {
+                log.error("Failed to open the persistent component variable store in {}, keeping the variables in memory", directory, e);
+            }
+        }
+
+        eventExecutor = new WorkerExecutor("event", jdaBootConfiguration.eventExecutor(), jdaBootConfiguration.eventExecutorThreads(),
+                jdaBootConfiguration.eventExecutorQueueSize(), jdaBootConfiguration.eventExecutorRejectionPolicy());
+        eventLanes = new SerialLaneExecutor("event", jdaBootConfiguration.eventLanes(), jdaBootConfiguration.eventExecutorQueueSize(),
+                jdaBootConfiguration.eventExecutorRejectionPolicy());
+
+        commandExecution = jdaBootConfiguration.commandExecution() == SlashCommandDefinition.Execution.DEFAULT
+                ? SlashCommandDefinition.Execution.INLINE : jdaBootConfiguration.commandExecution();
+        commandExecutor = new WorkerExecutor("command", ExecutorType.BOUNDED_POOL, jdaBootConfiguration.commandExecutorThreads(),
+                jdaBootConfiguration.commandExecutorQueueSize(), jdaBootConfiguration.commandExecutorRejectionPolicy());
+        commandVirtualThreadExecutor = new WorkerExecutor("command-virtual", ExecutorType.VIRTUAL_THREADS, jdaBootConfiguration.commandExecutorThreads(),
+                jdaBootConfiguration.commandExecutorQueueSize(), jdaBootConfiguration.commandExecutorRejectionPolicy());
+        commandLanes = new SerialLaneExecutor("command", jdaBootConfiguration.commandLanes(), jdaBootConfiguration.commandExecutorQueueSize(),
+                jdaBootConfiguration.commandExecutorRejectionPolicy());
+
+        interactionWatchdog = new InteractionWatchdog(Duration.ofMillis(jdaBootConfiguration.deferWatchdogThreshold()));
+    }
+
+    /**
+     * Parses a comma separated list of shard IDs and ranges like {@code 0-3,8}.
+     *
+     * @param shards The list to parse.
+     * @return The sorted shard IDs, empty if the list is empty.
+     * @throws IllegalArgumentException If the list contains an invalid ID or range.
+     * @since 1.0.0-beta.1
+     */
+    private static List<Integer> parseShardIds(String shards) {
+        TreeSet<Integer> shardIds = new TreeSet<>();
+        if (shards == null || shards.isBlank()) {
+            return List.of();
+        }
+
+        for (String part : shards.split(",")) {
+            String[] range = part.trim().split("-");
+            try {
+                int start = Integer.parseInt(range[0].trim());
+                int end = range.length == 2 ? Integer.parseInt(range[1].trim()) : start;
+                if (range.length > 2 || start < 0 || end < start) {
+                    throw new IllegalArgumentException("'" + part + "' is not a valid shard range");
+                }
+                for (int shardId = start; shardId <= end; shardId++) {
+                    shardIds.add(shardId);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("'" + part + "' is not a valid shard ID");
+            }
+        }
+        return List.copyOf(shardIds);
+    }
+
+    /**
+     * Derives the minimal GatewayIntents from the event handlers in the component index, the enabled CacheFlags and
+     * the MemberCachePolicy. The configured intents are kept, and CacheFlags whose intent is missing are disabled.
+     *
+     * @since 1.0.0-beta.1
+     */
+    private static void deriveIntents() {
+        Set<Class<? extends GenericEvent>> eventTypes = EventManager.getHandledEventTypes(componentIndex);
+
+        EnumSet<GatewayIntent> derived = deriveIntents(intents, eventTypes, EventManager.requiresMessageContent(componentIndex),
+                enabledCacheFlags, memberCachePolicyConfiguration);
+
+        EnumSet<CacheFlag> disabled = EnumSet.noneOf(CacheFlag.class);
+        disabled.addAll(disabledCacheFlags);
+        for (CacheFlag cacheFlag : CacheFlag.values()) {
+            if (cacheFlag.getRequiredIntent() != null && !derived.contains(cacheFlag.getRequiredIntent())) {
+                disabled.add(cacheFlag);
+            }
+        }
+
+        intents = List.copyOf(derived);
+        disabledCacheFlags = List.copyOf(disabled);
+        log.info("Derived gateway intents {} from {} event types, member cache policy {} and cache flags {}", intents,
+                eventTypes.size(), memberCachePolicyConfiguration, enabledCacheFlags);
+        log.info("Disabled cache flags {}", disabledCacheFlags);
+    }
+
+    /**
+     * Derives the GatewayIntents the bot needs. The GUILDS intent has no constant in JDA, it is always enabled by
+     * JDABuilder and DefaultShardManagerBuilder, so the guild and channel caches are filled with any derived intents.
+     *
+     * @param configured        The explicitly configured intents.
+     * @param eventTypes        The event types handled by the event handlers.
+     * @param messageContent    Whether an event handler filters by message content.
+     * @param enabledCacheFlags The enabled CacheFlags.
+     * @param memberCachePolicy The MemberCachePolicy.
+     * @return The derived intents.
+     * @since 1.0.0-beta.1
+     */
+    static EnumSet<GatewayIntent> deriveIntents(Collection<GatewayIntent> configured, Set<Class<? extends GenericEvent>> eventTypes,
+                                                boolean messageContent, Collection<CacheFlag> enabledCacheFlags,
+                                                MemberCachePolicyConfiguration memberCachePolicy) {
+        EnumSet<GatewayIntent> derived = EnumSet.noneOf(GatewayIntent.class);
+        derived.addAll(configured);
+        derived.addAll(EventManager.getRequiredIntents(eventTypes));
+        if (messageContent) {
+            derived.add(GatewayIntent.MESSAGE_CONTENT);
+        }
+        if (!enabledCacheFlags.isEmpty()) {
+            derived.addAll(GatewayIntent.fromCacheFlags(enabledCacheFlags));
+        }
+        derived.addAll(memberCachePolicy.getRequiredIntents());
+        return derived;
     }
 
     /**
      * Initializes various managers.
      *
-     * @param mainClass The main class of the application.
-     * @param jda       The JDA instance.
+     * @param connection The connection to Discord.
      * @since alpha.4
      */
-    protected static void initialiseManagers(Class<?> mainClass, JDA jda) {
-        commandManager = new CommandManager(jda, mainClass);
-        buttonManager = new ButtonManager(jda, mainClass);
-        selectMenuManager = new SelectMenuManager(jda, mainClass);
-        modalManager = new ModalManager(jda, mainClass);
+    protected static void initialiseManagers(JDABootConnection connection) {
+        commandManager = new CommandManager(connection, componentIndex, commandExecution, commandExecutor, commandVirtualThreadExecutor, commandLanes, interactionWatchdog);
+        componentRouter = new ComponentRouter(connection, interactionWatchdog);
+        buttonManager = new ButtonManager(componentRouter, componentIndex);
+        selectMenuManager = new SelectMenuManager(componentRouter, componentIndex);
+        modalManager = new ModalManager(componentRouter, componentIndex);
 
-        new EventManager(jda, mainClass);
-        new EmbedManager(mainClass);
-        new SchedulerManager(mainClass);
+        new EventManager(connection, componentIndex, eventExecutor, eventLanes);
+        embedManager = new EmbedManager(componentIndex);
+        new SchedulerManager(componentIndex);
 
         if (consoleCommandsEnabled) {
-            new ConsoleCommandManager(mainClass);
+            new ConsoleCommandManager(componentIndex);
+        }
+        new ConfigValueManager(componentIndex);
+
+        connection.addEventListener((EventListener) event -> {
+            if (event instanceof ShutdownEvent && connection.getShards().stream().allMatch(jda -> jda.getStatus() == JDA.Status.SHUTDOWN)) {
+                shutdownManagers();
+            }
+        });
+    }
+
+    /**
+     * Detaches the managers from the translations, so they can be garbage collected. Called when all shards of the
+     * connection to Discord have shut down.
+     *
+     * @since 1.0.0-beta.1
+     */
+    protected static void shutdownManagers() {
+        if (commandManager != null) {
+            commandManager.shutdown();
+        }
+        if (embedManager != null) {
+            embedManager.shutdown();
         }
-        new ConfigValueManager(mainClass);
     }
 
     /**
-     * Initializes global variables that provide dynamic values from the JDA instance.
+     * Initializes global variables that provide dynamic values from the connection to Discord.
      * These variables can be accessed at runtime and always reflect the current state.
+     * If the bot is sharded, the values are aggregated across all shards of this process,
+     * and if this process is a cluster node, the guild count is aggregated across all nodes.
      *
-     * @param jda The JDA instance from which the values are retrieved.
+     * @param connection The connection from which the values are retrieved.
      * @since 1.0.0-beta.1
      */
-    protected static void initialiseGlobalVariables(JDA jda) {
-        GlobalVariables.setDynamicValue("guildCount", () -> Integer.toString(jda.getGuilds().size()));
-        GlobalVariables.setDynamicValue("selfUsername", () -> jda.getSelfUser().getName());
-        GlobalVariables.setDynamicValue("shardCount", () -> Integer.toString(jda.getShardInfo().getShardTotal()));
+    protected static void initialiseGlobalVariables(JDABootConnection connection) {
+        if (clusterNode != null) {
+            clusterNode.start(connection);
+            GlobalVariables.setDynamicValue("guildCount", () -> Long.toString(clusterNode.getClusterGuildCount()));
+            GlobalVariables.setDynamicValue("nodeGuildCount", () -> Long.toString(connection.getGuildCache().size()));
+            GlobalVariables.setDynamicValue("clusterNodeCount", () -> Integer.toString(clusterNode.getActiveNodeCount()));
+        } else {
+            GlobalVariables.setDynamicValue("guildCount", () -> Long.toString(connection.getGuildCache().size()));
+        }
+        GlobalVariables.setDynamicValue("selfUsername", () -> connection.getSelfUser().getName());
+        GlobalVariables.setDynamicValue("shardCount", () -> Integer.toString(connection.getShardTotal()));
     }
 }
@@ -0,0 +1,180 @@
+package de.swiftbyte.jdaboot;
+
+import lombok.Getter;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.SelfUser;
+import net.dv8tion.jda.api.sharding.ShardManager;
+import net.dv8tion.jda.api.utils.cache.SnowflakeCacheView;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The JDABootConnection class is the connection of JDA-Boot to Discord. It is backed either by a single JDA instance
+ * or by a ShardManager, so the managers work the same way in both modes.
+ *
+ * @since 1.0.0-beta.1
+ */
+public class JDABootConnection {
+
+    private final JDA jda;
+
+    /**
+     * The ShardManager of the connection, or null if the bot is not sharded.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private final ShardManager shardManager;
+
+    private JDABootConnection(JDA jda, ShardManager shardManager) {
+        this.jda = jda;
+        this.shardManager = shardManager;
+    }
+
+    /**
+     * Creates a connection backed by a single JDA instance.
+     *
+     * @param jda The JDA instance.
+     * @return The created connection.
+     * @since 1.0.0-beta.1
+     */
+    public static JDABootConnection of(JDA jda) {
+        return new JDABootConnection(jda, null);
+    }
+
+    /**
+     * Creates a connection backed by a ShardManager.
+     *
+     * @param shardManager The ShardManager.
+     * @return The created connection.
+     * @since 1.0.0-beta.1
+     */
+    public static JDABootConnection of(ShardManager shardManager) {
+        return new JDABootConnection(null, shardManager);
+    }
+
+    /**
+     * Returns whether the connection is backed by a ShardManager.
+     *
+     * @return True if the bot is sharded, false otherwise.
+     * @since 1.0.0-beta.1
+     */
+    public boolean isSharded() {
+        return shardManager != null;
+    }
+
+    /**
+     * Returns the JDA instance to use for requests that do not depend on a shard, like updating global commands.
+     * If the bot is sharded, this is the shard with the lowest ID started by this process.
+     *
+     * @return The primary JDA instance.
+     * @since 1.0.0-beta.1
+     */
+    public JDA getPrimaryJDA() {
+        if (shardManager == null) {
+            return jda;
+        }
+        return shardManager.getShardCache().stream()
+                .min(Comparator.comparingInt(shard -> shard.getShardInfo().getShardId()))
+                .orElseThrow(() -> new IllegalStateException("The ShardManager has not started any shard"));
+    }
+
+    /**
+     * Returns all JDA instances of the connection.
+     *
+     * @return The JDA instances, one per started shard.
+     * @since 1.0.0-beta.1
+     */
+    public List<JDA> getShards() {
+        return shardManager != null ? shardManager.getShards() : List.of(jda);
+    }
+
+    /**
+     * Adds the specified event listeners. If the bot is sharded, the listeners are added to all shards,
+     * including shards that are started or restarted later.
+     *
+     * @param listeners The event listeners to add.
+     * @since 1.0.0-beta.1
+     */
+    public void addEventListener(Object... listeners) {
+        if (shardManager != null) {
+            shardManager.addEventListener(listeners);
+        } else {
+            jda.addEventListener(listeners);
+        }
+    }
+
+    /**
+     * Returns the guilds of all shards.
+     *
+     * @return The guild cache.
+     * @since 1.0.0-beta.1
+     */
+    public SnowflakeCacheView<Guild> getGuildCache() {
+        return shardManager != null ? shardManager.getGuildCache() : jda.getGuildCache();
+    }
+
+    /**
+     * Returns the guild with the specified ID from any shard.
+     *
+     * @param guildId The ID of the guild.
+     * @return The guild, or null if no shard of this process has the guild cached.
+     * @since 1.0.0-beta.1
+     */
+    public Guild getGuildById(String guildId) {
+        return shardManager != null ? shardManager.getGuildById(guildId) : jda.getGuildById(guildId);
+    }
+
+    /**
+     * Returns the guild with the specified ID from any shard.
+     *
+     * @param guildId The ID of the guild.
+     * @return The guild, or null if no shard of this process has the guild cached.
+     * @since 1.0.0-beta.1
+     */
+    public Guild getGuildById(long guildId) {
+        return shardManager != null ? shardManager.getGuildById(guildId) : jda.getGuildById(guildId);
+    }
+
+    /**
+     * Returns the user of the bot.
+     *
+     * @return The self user.
+     * @since 1.0.0-beta.1
+     */
+    public SelfUser getSelfUser() {
+        return getPrimaryJDA().getSelfUser();
+    }
+
+    /**
+     * Returns the total number of shards of the bot, including shards run by other processes.
+     *
+     * @return The total number of shards.
+     * @since 1.0.0-beta.1
+     */
+    public int getShardTotal() {
+        return shardManager != null ? shardManager.getShardsTotal() : jda.getShardInfo().getShardTotal();
+    }
+
+    /**
+     * Blocks until all shards of this process are connected and ready.
+     *
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     * @since 1.0.0-beta.1
+     */
+    public void awaitReady() throws InterruptedException {
+        if (shardManager == null) {
+            jda.awaitReady();
+            return;
+        }
+
+        while (shardManager.getShardsQueued() > 0) {
+            Thread.sleep(500);
+        }
+        for (JDA shard : shardManager.getShards()) {
+            shard.awaitReady();
+        }
+    }
+}
@@ -2,11 +2,15 @@ package de.swiftbyte.jdaboot;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The JDABootObjectManager class is responsible for managing objects and their fields and methods.
@@ -19,6 +23,8 @@ public class JDABootObjectManager {
 
     private static HashMap<Class<?>, Object> objectMap = new HashMap<>();
 
+    private static final Map<Method, MethodHandle> methodHandles = new ConcurrentHashMap<>();
+
     /**
      * Initializes a new object of the specified class and adds it to the object map.
      *
@@ -154,6 +160,7 @@ public class JDABootObjectManager {
 
     /**
      * Runs the specified method of the specified class with the specified arguments.
+     * The method is bound to a {@link MethodHandle} on the first call, later calls reuse that handle.
      *
      * @param clazz  The class of the object to run the method on.
      * @param method The method to run.
@@ -162,21 +169,53 @@ public class JDABootObjectManager {
      * @since 1.0.0-alpha.5
      */
     public static Object runMethod(Class<?> clazz, Method method, Object... args) {
+        MethodHandle handle = methodHandles.get(method);
+        if (handle == null) {
+            handle = bindMethod(clazz, method);
+            if (handle == null) {
+                return null;
+            }
+            methodHandles.put(method, handle);
+        }
+
+        try {
+            return args == null ? handle.invoke() : handle.invokeWithArguments(args);
+        } catch (Throwable e) {
+            log.warn("Failed to run method {} in class {}!", method.getName(), clazz.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Binds the specified method of the specified class to a {@link MethodHandle}.
+     * Instance methods are bound to the object of the class, so the returned handle only takes the method parameters.
+     * Access checks are done once here and not on every invocation.
+     *
+     * @param clazz  The class of the object to bind the method to.
+     * @param method The method to bind.
+     * @return The bound method handle, or null if the method could not be bound.
+     * @since 1.0.0-beta.1
+     */
+    public static MethodHandle bindMethod(Class<?> clazz, Method method) {
         try {
             if (Modifier.isStatic(method.getModifiers())) {
                 if (!method.canAccess(null)) {
                     method.setAccessible(true);
                 }
-                return method.invoke(null, args);
+                return MethodHandles.lookup().unreflect(method);
             } else {
                 Object object = getOrInitialiseObject(clazz);
+                if (object == null) {
+                    log.warn("Failed to bind method {} in class {} because the class could not be initialised!", method.getName(), clazz.getName());
+                    return null;
+                }
                 if (!method.canAccess(object)) {
                     method.setAccessible(true);
                 }
-                return method.invoke(object, args);
+                return MethodHandles.lookup().unreflect(method).bindTo(object);
             }
         } catch (Exception e) {
-            log.warn("Failed to run method {} in class {}!", method.getName(), clazz.getName(), e);
+            log.warn("Failed to bind method {} in class {}!", method.getName(), clazz.getName(), e);
             return null;
         }
     }
@@ -1,7 +1,10 @@
 package de.swiftbyte.jdaboot;
 
+import net.dv8tion.jda.api.requests.GatewayIntent;
 import net.dv8tion.jda.api.utils.MemberCachePolicy;
 
+import java.util.EnumSet;
+
 /**
  * The MemberCachePolicyConfiguration enum is used to map the JDA's MemberCachePolicy options to enum constants.
  * This makes it easier to use and manage the MemberCachePolicy options in the application.
@@ -34,4 +37,20 @@ public enum MemberCachePolicyConfiguration {
             default -> MemberCachePolicy.DEFAULT;
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * This method is used to get the GatewayIntents the MemberCachePolicy needs to keep the member cache up to date.
+     * The DEFAULT policy also caches the owner of a guild, which works without intents, so it does not force
+     * GUILD_VOICE_STATES; members in voice channels are only cached if that intent is enabled.
+     *
+     * @return The intents required by the MemberCachePolicy.
+     */
+    public EnumSet<GatewayIntent> getRequiredIntents() {
+        return switch (this) {
+            case ONLINE -> EnumSet.of(GatewayIntent.GUILD_PRESENCES, GatewayIntent.GUILD_MEMBERS);
+            case ALL, PENDING, BOOSTER -> EnumSet.of(GatewayIntent.GUILD_MEMBERS);
+            case VOICE -> EnumSet.of(GatewayIntent.GUILD_VOICE_STATES);
+            default -> EnumSet.noneOf(GatewayIntent.class);
+        };
+    }
+}
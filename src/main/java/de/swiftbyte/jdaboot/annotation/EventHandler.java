@@ -1,5 +1,7 @@
 package de.swiftbyte.jdaboot.annotation;
 
+import net.dv8tion.jda.api.Permission;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -7,7 +9,12 @@ import java.lang.annotation.Target;
 
 /**
  * The EventHandler annotation is used to mark a method as an event handler.
- * It includes a property to specify whether the event handler should be executed asynchronously.
+ * It includes a property to specify whether the event handler should be executed asynchronously
+ * and a property to run the handler in order per guild or channel.
+ * <p>
+ * The filter properties are checked before the handler is invoked, so events that do not match them never reach the handler.
+ * An event has to match all specified filters. Filters that need a value the event does not carry, like the message content
+ * of a reaction event, never match.
  *
  * @since alpha.4
  */
@@ -22,4 +29,99 @@ public @interface EventHandler {
      * @since alpha.4
      */
     boolean async() default false;
+
+    /**
+     * Specifies whether the event handler should be executed in order per guild or per channel.
+     * Ordered handlers run asynchronously on serial lanes: events of the same guild or channel are handled one after
+     * another, while events of different guilds or channels are handled in parallel.
+     * By default, the handler is not ordered.
+     *
+     * @return The ordering of the event handler.
+     * @since 1.0.0-beta.1
+     */
+    Ordering ordering() default Ordering.NONE;
+
+    /**
+     * Specifies the IDs of the guilds whose events are passed to the handler.
+     * By default, the events of all guilds and of direct messages are passed.
+     *
+     * @return The guild IDs to accept.
+     * @since 1.0.0-beta.1
+     */
+    String[] guildIds() default {};
+
+    /**
+     * Specifies the IDs of the channels whose events are passed to the handler.
+     * By default, the events of all channels are passed.
+     *
+     * @return The channel IDs to accept.
+     * @since 1.0.0-beta.1
+     */
+    String[] channelIds() default {};
+
+    /**
+     * Specifies whether events triggered by bots should be ignored.
+     * By default, events triggered by bots are passed to the handler.
+     *
+     * @return True if events of bots should be ignored, false otherwise.
+     * @since 1.0.0-beta.1
+     */
+    boolean ignoreBots() default false;
+
+    /**
+     * Specifies the prefix the raw message content has to start with.
+     * Only message received and message update events carry a content. Requires the MESSAGE_CONTENT intent.
+     *
+     * @return The required content prefix, or an empty string to accept all messages.
+     * @since 1.0.0-beta.1
+     */
+    String contentPrefix() default "";
+
+    /**
+     * Specifies a regular expression that has to be found in the raw message content.
+     * Only message received and message update events carry a content. Requires the MESSAGE_CONTENT intent.
+     *
+     * @return The regular expression, or an empty string to accept all messages.
+     * @since 1.0.0-beta.1
+     */
+    String contentRegex() default "";
+
+    /**
+     * Specifies the permissions the member who triggered the event needs. If the event belongs to a guild channel,
+     * the permissions are checked in that channel.
+     * By default, no permissions are required.
+     *
+     * @return The required permissions.
+     * @since 1.0.0-beta.1
+     */
+    Permission[] requiredPermissions() default {};
+
+    /**
+     * The Ordering enum defines by which key the events of an event handler are ordered.
+     *
+     * @since 1.0.0-beta.1
+     */
+    enum Ordering {
+
+        /**
+         * The events are not ordered. The handler runs on the event thread, or on the event executor if it is asynchronous.
+         *
+         * @since 1.0.0-beta.1
+         */
+        NONE,
+
+        /**
+         * The events are ordered per guild. Events without a guild are ordered per channel.
+         *
+         * @since 1.0.0-beta.1
+         */
+        GUILD,
+
+        /**
+         * The events are ordered per channel.
+         *
+         * @since 1.0.0-beta.1
+         */
+        CHANNEL
+    }
 }
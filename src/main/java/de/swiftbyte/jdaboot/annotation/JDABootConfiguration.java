@@ -1,7 +1,12 @@
 package de.swiftbyte.jdaboot.annotation;
 
 import de.swiftbyte.jdaboot.MemberCachePolicyConfiguration;
+import de.swiftbyte.jdaboot.annotation.interaction.command.SlashCommandDefinition;
 import de.swiftbyte.jdaboot.configuration.ConfigProvider;
+import de.swiftbyte.jdaboot.execution.ExecutorType;
+import de.swiftbyte.jdaboot.execution.RejectionPolicy;
+import de.swiftbyte.jdaboot.interaction.EvictionPolicy;
+import de.swiftbyte.jdaboot.interaction.VariableTransferMode;
 import de.swiftbyte.jdaboot.variables.ResourceBundleTranslationProviderImpl;
 import de.swiftbyte.jdaboot.variables.TranslationProvider;
 import net.dv8tion.jda.api.requests.GatewayIntent;
@@ -50,6 +55,19 @@ public @interface JDABootConfiguration {
      */
     GatewayIntent[] intents() default {};
 
+    /**
+     * Specifies whether the GatewayIntents should be derived from the project instead of using {@link #intents()} alone.
+     * The intents are derived from the event types of all @EventHandler methods, the enabled CacheFlags and the
+     * MemberCachePolicy. Interactions like commands, buttons and modals need no intents. The intents specified in
+     * {@link #intents()} are added to the derived ones, and CacheFlags whose intent is missing are disabled.
+     * MESSAGE_CONTENT is only derived from content filters, add it to {@link #intents()} if a handler reads message content.
+     * By default, the intents are not derived.
+     *
+     * @return True if the intents should be derived automatically, false otherwise.
+     * @since 1.0.0-beta.1
+     */
+    boolean autoIntents() default false;
+
     /**
      * Specifies the CacheFlags that should be enabled in the JDA instance.
      * By default, no CacheFlags are enabled.
@@ -95,4 +113,185 @@ public @interface JDABootConfiguration {
      */
     String configProfile() default "default";
 
+    /**
+     * Specifies whether the bot should be sharded. If enabled, a ShardManager is used instead of a single JDA instance.
+     * Can be overridden with the config key {@code jdaboot.sharding}.
+     * By default, the bot is not sharded.
+     *
+     * @return True if the bot should be sharded, false otherwise.
+     * @since 1.0.0-beta.1
+     */
+    boolean sharding() default false;
+
+    /**
+     * Specifies the total number of shards of the bot. Can be overridden with the config key {@code jdaboot.sharding.total}.
+     * By default, the number of shards recommended by Discord is used.
+     *
+     * @return The total number of shards, or -1 to use the recommended number.
+     * @since 1.0.0-beta.1
+     */
+    int shardTotal() default -1;
+
+    /**
+     * Specifies the shards this process should start, as a comma separated list of shard IDs and ranges like {@code 0-3,8}.
+     * Requires {@link #shardTotal()} to be set. Can be overridden with the config key {@code jdaboot.sharding.shards}.
+     * By default, all shards are started.
+     *
+     * @return The shards to start, or an empty string to start all shards.
+     * @since 1.0.0-beta.1
+     */
+    String shards() default "";
+
+    /**
+     * Specifies how many shards may log in at the same time. This must match the max_concurrency of your bot,
+     * which Discord raises for large bots. Can be overridden with the config key {@code jdaboot.sharding.concurrency}.
+     * By default, the shards log in one after another.
+     *
+     * @return The number of concurrent logins.
+     * @since 1.0.0-beta.1
+     */
+    int loginConcurrency() default 1;
+
+    /**
+     * Specifies the executor that asynchronous event handlers run on.
+     * By default, every handler runs on its own virtual thread. On Java versions without virtual threads, a bounded pool is used.
+     *
+     * @return The type of the event executor.
+     * @since 1.0.0-beta.1
+     */
+    ExecutorType eventExecutor() default ExecutorType.VIRTUAL_THREADS;
+
+    /**
+     * Specifies the number of threads of the event executor if it is a bounded pool.
+     * By default, the number of available processors is used.
+     *
+     * @return The number of threads, or 0 to use the number of available processors.
+     * @since 1.0.0-beta.1
+     */
+    int eventExecutorThreads() default 0;
+
+    /**
+     * Specifies how many asynchronous event handlers may be pending before the rejection policy is applied.
+     * For virtual threads, this limits the number of handlers running at the same time.
+     *
+     * @return The queue size of the event executor.
+     * @since 1.0.0-beta.1
+     */
+    int eventExecutorQueueSize() default 10000;
+
+    /**
+     * Specifies what happens to asynchronous event handlers that exceed the queue size.
+     * By default, they are run on the JDA event thread, which slows down the event processing instead of dropping events.
+     *
+     * @return The rejection policy of the event executor.
+     * @since 1.0.0-beta.1
+     */
+    RejectionPolicy eventExecutorRejectionPolicy() default RejectionPolicy.CALLER_RUNS;
+
+    /**
+     * Specifies the number of serial lanes that ordered event handlers run on.
+     * The queue size and rejection policy of the event executor are applied to the lanes as well,
+     * except that {@link RejectionPolicy#CALLER_RUNS} blocks the event thread to keep the order of the events.
+     * By default, the number of available processors is used.
+     *
+     * @return The number of lanes, or 0 to use the number of available processors.
+     * @see EventHandler#ordering()
+     * @since 1.0.0-beta.1
+     */
+    int eventLanes() default 0;
+
+    /**
+     * Specifies on which thread commands are executed, unless a command specifies its own execution model.
+     * By default, commands are executed on the JDA event thread.
+     *
+     * @return The default execution model of commands.
+     * @see SlashCommandDefinition#execution()
+     * @since 1.0.0-beta.1
+     */
+    SlashCommandDefinition.Execution commandExecution() default SlashCommandDefinition.Execution.INLINE;
+
+    /**
+     * Specifies the number of threads of the command pool.
+     * By default, the number of available processors is used.
+     *
+     * @return The number of threads, or 0 to use the number of available processors.
+     * @since 1.0.0-beta.1
+     */
+    int commandExecutorThreads() default 0;
+
+    /**
+     * Specifies how many command invocations may be pending before the rejection policy is applied.
+     * This applies to the command pool, the virtual threads and the guild lanes.
+     *
+     * @return The queue size of the command executors.
+     * @since 1.0.0-beta.1
+     */
+    int commandExecutorQueueSize() default 10000;
+
+    /**
+     * Specifies what happens to command invocations that exceed the queue size.
+     * By default, they are run on the JDA event thread. The guild lanes block the event thread instead.
+     *
+     * @return The rejection policy of the command executors.
+     * @since 1.0.0-beta.1
+     */
+    RejectionPolicy commandExecutorRejectionPolicy() default RejectionPolicy.CALLER_RUNS;
+
+    /**
+     * Specifies the number of serial lanes that commands with {@link SlashCommandDefinition.Execution#GUILD_LANES} run on.
+     * By default, the number of available processors is used.
+     *
+     * @return The number of lanes, or 0 to use the number of available processors.
+     * @since 1.0.0-beta.1
+     */
+    int commandLanes() default 0;
+
+    /**
+     * Specifies after how many milliseconds an interaction that was not acknowledged by its handler is deferred
+     * automatically. Commands and modals are deferred with a reply, buttons and select menus with an edit.
+     * The reply and edit methods of the context passed to the handler then respond through the hook of the interaction.
+     * By default, interactions are not deferred.
+     *
+     * @return The threshold in milliseconds, or 0 to disable the watchdog.
+     * @since 1.0.0-beta.1
+     */
+    long deferWatchdogThreshold() default 0;
+
+    /**
+     * Specifies how many variable maps of buttons, select menus and modals are kept at most.
+     * Once the limit is reached, variable maps are removed according to {@link #componentVariableEvictionPolicy()}.
+     *
+     * @return The maximum number of stored variable maps.
+     * @since 1.0.0-beta.1
+     */
+    int componentVariableStoreSize() default 100000;
+
+    /**
+     * Specifies how long the variables of buttons, select menus and modals are kept, in seconds.
+     * By default, the variables are kept for seven days.
+     *
+     * @return The time to live in seconds, or 0 to keep the variables until they are evicted.
+     * @since 1.0.0-beta.1
+     */
+    long componentVariableTimeToLive() default 604800;
+
+    /**
+     * Specifies which variable maps are removed first once the store is full.
+     * By default, the least recently used ones are removed.
+     *
+     * @return The eviction policy of the variable store.
+     * @since 1.0.0-beta.1
+     */
+    EvictionPolicy componentVariableEvictionPolicy() default EvictionPolicy.LRU;
+
+    /**
+     * Specifies how the variables of buttons, select menus and modals are transferred to their interactions,
+     * unless a component specifies its own mode.
+     * By default, the variables are kept in the variable store.
+     *
+     * @return The default variable transfer mode.
+     * @since 1.0.0-beta.1
+     */
+    VariableTransferMode componentVariableTransfer() default VariableTransferMode.STORE;
+
 }
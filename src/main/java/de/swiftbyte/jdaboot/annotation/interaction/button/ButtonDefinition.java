@@ -1,5 +1,6 @@
 package de.swiftbyte.jdaboot.annotation.interaction.button;
 
+import de.swiftbyte.jdaboot.interaction.VariableTransferMode;
 import de.swiftbyte.jdaboot.annotation.DefaultVariable;
 
 import java.lang.annotation.ElementType;
@@ -65,6 +66,15 @@ public @interface ButtonDefinition {
      */
     DefaultVariable[] defaultVars() default {};
 
+    /**
+     * How the variables of the button are transferred to its interaction.
+     * By default, the mode configured in the JDABootConfiguration annotation is used.
+     *
+     * @return The variable transfer mode of the button.
+     * @since 1.0.0-beta.1
+     */
+    VariableTransferMode variableTransfer() default VariableTransferMode.DEFAULT;
+
     /**
      * The Type enum defines the types of buttons that can be created.
      *
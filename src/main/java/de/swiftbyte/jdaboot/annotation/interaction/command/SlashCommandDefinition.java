@@ -115,6 +115,25 @@ public @interface SlashCommandDefinition {
      */
     Subcommand[] subcommands() default {};
 
+    /**
+     * Specifies on which thread the command is executed.
+     * By default, the execution model configured in the JDABootConfiguration annotation is used.
+     *
+     * @return The execution model of the command.
+     * @since 1.0.0-beta.1
+     */
+    Execution execution() default Execution.DEFAULT;
+
+    /**
+     * Specifies whether the reply is only visible to the user when the interaction watchdog defers the command.
+     * Discord shows the first reply after a deferral with the visibility of the deferral, so commands that reply
+     * ephemerally should enable this.
+     *
+     * @return true if the watchdog defers the command with an ephemeral reply.
+     * @since 1.0.0-beta.1
+     */
+    boolean deferEphemeral() default false;
+
     /**
      * The different types of commands discord have.
      *
@@ -142,4 +161,48 @@ public @interface SlashCommandDefinition {
          */
         MESSAGE
     }
-}
\ No newline at end of file
+
+    /**
+     * The execution models of commands.
+     *
+     * @since 1.0.0-beta.1
+     */
+    enum Execution {
+        /**
+         * Uses the execution model configured in the JDABootConfiguration annotation.
+         *
+         * @since 1.0.0-beta.1
+         */
+        DEFAULT,
+
+        /**
+         * Executes the command on the JDA event thread. A slow command delays all other events of the shard.
+         *
+         * @since 1.0.0-beta.1
+         */
+        INLINE,
+
+        /**
+         * Executes the command on a bounded pool of platform threads shared by all commands.
+         *
+         * @since 1.0.0-beta.1
+         */
+        POOL,
+
+        /**
+         * Executes every invocation of the command on its own virtual thread.
+         * On Java versions without virtual threads, a bounded pool is used instead.
+         *
+         * @since 1.0.0-beta.1
+         */
+        VIRTUAL_THREAD,
+
+        /**
+         * Executes the invocations of a guild one after another, while different guilds run in parallel.
+         * Invocations outside of guilds are ordered by channel.
+         *
+         * @since 1.0.0-beta.1
+         */
+        GUILD_LANES
+    }
+}
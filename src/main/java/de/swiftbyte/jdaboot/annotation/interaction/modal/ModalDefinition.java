@@ -1,5 +1,6 @@
 package de.swiftbyte.jdaboot.annotation.interaction.modal;
 
+import de.swiftbyte.jdaboot.interaction.VariableTransferMode;
 import de.swiftbyte.jdaboot.annotation.DefaultVariable;
 
 import java.lang.annotation.ElementType;
@@ -42,4 +43,13 @@ public @interface ModalDefinition {
      */
     DefaultVariable[] defaultVars() default {};
 
+    /**
+     * How the variables of the modal are transferred to its interaction.
+     * By default, the mode configured in the JDABootConfiguration annotation is used.
+     *
+     * @return The variable transfer mode of the modal.
+     * @since 1.0.0-beta.1
+     */
+    VariableTransferMode variableTransfer() default VariableTransferMode.DEFAULT;
+
 }
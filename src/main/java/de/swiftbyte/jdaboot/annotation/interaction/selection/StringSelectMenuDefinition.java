@@ -1,5 +1,6 @@
 package de.swiftbyte.jdaboot.annotation.interaction.selection;
 
+import de.swiftbyte.jdaboot.interaction.VariableTransferMode;
 import de.swiftbyte.jdaboot.annotation.DefaultVariable;
 
 import java.lang.annotation.ElementType;
@@ -71,4 +72,13 @@ public @interface StringSelectMenuDefinition {
      * @since 1.0.0-alpha.11
      */
     DefaultVariable[] defaultVars() default {};
+
+    /**
+     * How the variables of the select menu are transferred to its interaction.
+     * By default, the mode configured in the JDABootConfiguration annotation is used.
+     *
+     * @return The variable transfer mode of the select menu.
+     * @since 1.0.0-beta.1
+     */
+    VariableTransferMode variableTransfer() default VariableTransferMode.DEFAULT;
 }
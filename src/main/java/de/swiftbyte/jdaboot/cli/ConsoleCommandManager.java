@@ -1,11 +1,11 @@
 package de.swiftbyte.jdaboot.cli;
 
+import de.swiftbyte.jdaboot.JDABootComponentIndex;
 import de.swiftbyte.jdaboot.JDABootObjectManager;
 import de.swiftbyte.jdaboot.annotation.cli.ConsoleCommandDefinition;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.reflections.Reflections;
 
 import java.util.HashMap;
 
@@ -27,13 +27,11 @@ public class ConsoleCommandManager {
     /**
      * Constructs a new ConsoleCommandManager and registers all classes annotated with ConsoleCommand.
      *
-     * @param mainClass The main class of the application.
+     * @param index The component index of the application.
      * @since alpha.4
      */
-    public ConsoleCommandManager(Class<?> mainClass) {
-        Reflections reflections = new Reflections(mainClass.getPackageName());
-
-        reflections.getTypesAnnotatedWith(ConsoleCommandDefinition.class).forEach(clazz -> {
+    public ConsoleCommandManager(JDABootComponentIndex index) {
+        index.getTypesAnnotatedWith(ConsoleCommandDefinition.class).forEach(clazz -> {
 
             ConsoleCommandDefinition annotation = clazz.getAnnotation(ConsoleCommandDefinition.class);
 
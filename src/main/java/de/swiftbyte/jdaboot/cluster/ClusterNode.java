@@ -0,0 +1,235 @@
+package de.swiftbyte.jdaboot.cluster;
+
+import de.swiftbyte.jdaboot.JDABootConnection;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.utils.SessionController;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The ClusterNode class represents one process of a bot whose shards are spread over several processes.
+ * Every node runs a contiguous range of the shards and shares a directory with the other nodes, which is used to
+ * order the logins of the shards with an {@link IdentifyLock} and to exchange statistics, so global variables like
+ * the guild count can be aggregated across the cluster.
+ * <p>
+ * The node ID and the number of nodes are passed as startup arguments, for example {@code --node=0 --nodes=4},
+ * or set with the config keys {@code jdaboot.cluster.node} and {@code jdaboot.cluster.nodes}.
+ *
+ * @since 1.0.0-beta.1
+ */
+@Slf4j
+public class ClusterNode {
+
+    @Getter
+    private final int nodeId;
+
+    @Getter
+    private final int nodeCount;
+
+    @Getter
+    private final int shardTotal;
+
+    @Getter
+    private final List<Integer> shardIds;
+
+    @Getter
+    private final Path directory;
+
+    private final IdentifyLock identifyLock;
+
+    private final int statsInterval;
+
+    private ScheduledExecutorService statsScheduler;
+
+    private volatile long clusterGuildCount;
+
+    private volatile int activeNodeCount;
+
+    /**
+     * Constructor for ClusterNode. Assigns the shards of the node and prepares the shared directory.
+     *
+     * @param nodeId        The ID of this node, starting at 0.
+     * @param nodeCount     The number of nodes in the cluster.
+     * @param shardTotal    The total number of shards of the bot.
+     * @param directory     The directory shared by all nodes of the cluster.
+     * @param statsInterval The interval in seconds in which the statistics of the node are published.
+     * @throws IOException              If the shared directory could not be created.
+     * @throws IllegalArgumentException If the node ID, node count or shard total are invalid.
+     * @since 1.0.0-beta.1
+     */
+    public ClusterNode(int nodeId, int nodeCount, int shardTotal, Path directory, int statsInterval) throws IOException {
+        if (nodeCount < 1 || nodeId < 0 || nodeId >= nodeCount) {
+            throw new IllegalArgumentException("Node " + nodeId + " is not part of a cluster of " + nodeCount + " nodes");
+        }
+        if (shardTotal < nodeCount) {
+            throw new IllegalArgumentException("A cluster of " + nodeCount + " nodes needs at least as many shards, but the shard total is " + shardTotal);
+        }
+
+        this.nodeId = nodeId;
+        this.nodeCount = nodeCount;
+        this.shardTotal = shardTotal;
+        this.shardIds = assignShards(nodeId, nodeCount, shardTotal);
+        this.directory = directory;
+        this.identifyLock = new FileIdentifyLock(directory);
+        this.statsInterval = Math.max(1, statsInterval);
+    }
+
+    /**
+     * Assigns a contiguous range of shards to the specified node. The shards are split as evenly as possible.
+     *
+     * @param nodeId     The ID of the node.
+     * @param nodeCount  The number of nodes in the cluster.
+     * @param shardTotal The total number of shards of the bot.
+     * @return The IDs of the shards of the node.
+     * @since 1.0.0-beta.1
+     */
+    public static List<Integer> assignShards(int nodeId, int nodeCount, int shardTotal) {
+        int start = (int) ((long) nodeId * shardTotal / nodeCount);
+        int end = (int) ((long) (nodeId + 1) * shardTotal / nodeCount);
+
+        List<Integer> shardIds = new ArrayList<>();
+        for (int shardId = start; shardId < end; shardId++) {
+            shardIds.add(shardId);
+        }
+        return List.copyOf(shardIds);
+    }
+
+    /**
+     * Creates a session controller that orders the logins of the shards of this node with the other nodes.
+     *
+     * @param concurrency The login concurrency of the bot.
+     * @return The created session controller.
+     * @since 1.0.0-beta.1
+     */
+    public SessionController createSessionController(int concurrency) {
+        return new ClusterSessionController(identifyLock, concurrency);
+    }
+
+    /**
+     * Starts publishing the statistics of this node and aggregating the statistics of all nodes.
+     *
+     * @param connection The connection of this node to Discord.
+     * @since 1.0.0-beta.1
+     */
+    public void start(JDABootConnection connection) {
+        clusterGuildCount = connection.getGuildCache().size();
+        activeNodeCount = 1;
+
+        statsScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "JDABoot-cluster-stats");
+            thread.setDaemon(true);
+            return thread;
+        });
+        statsScheduler.scheduleAtFixedRate(() -> {
+            try {
+                publishStats(connection);
+                aggregateStats();
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to exchange the cluster statistics", e);
+            }
+        }, 0, statsInterval, TimeUnit.SECONDS);
+
+        log.info("Started cluster node {} of {} with shards {}", nodeId, nodeCount, shardIds);
+    }
+
+    /**
+     * Stops publishing the statistics of this node.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public void shutdown() {
+        if (statsScheduler != null) {
+            statsScheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the number of guilds of all active nodes, as of the last aggregation.
+     *
+     * @return The number of guilds of the cluster.
+     * @since 1.0.0-beta.1
+     */
+    public long getClusterGuildCount() {
+        return clusterGuildCount;
+    }
+
+    /**
+     * Returns the number of nodes that published their statistics recently, as of the last aggregation.
+     *
+     * @return The number of active nodes.
+     * @since 1.0.0-beta.1
+     */
+    public int getActiveNodeCount() {
+        return activeNodeCount;
+    }
+
+    /**
+     * Writes the statistics of this node to its file in the shared directory. The file is replaced atomically,
+     * so other nodes never read a partially written file.
+     *
+     * @param connection The connection of this node to Discord.
+     * @throws IOException If the file could not be written.
+     * @since 1.0.0-beta.1
+     */
+    private void publishStats(JDABootConnection connection) throws IOException {
+        Properties stats = new Properties();
+        stats.setProperty("guildCount", Long.toString(connection.getGuildCache().size()));
+        stats.setProperty("shardsConnected", Long.toString(connection.getShards().stream()
+                .filter(shard -> shard.getStatus() == JDA.Status.CONNECTED).count()));
+        stats.setProperty("updated", Long.toString(System.currentTimeMillis()));
+
+        Path file = directory.resolve("node-" + nodeId + ".properties");
+        Path temporaryFile = directory.resolve("node-" + nodeId + ".properties.tmp");
+        try (Writer writer = Files.newBufferedWriter(temporaryFile)) {
+            stats.store(writer, "JDA-Boot cluster node " + nodeId);
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Sums up the statistics of all nodes that published them within the last three intervals.
+     *
+     * @throws IOException If the shared directory could not be read.
+     * @since 1.0.0-beta.1
+     */
+    private void aggregateStats() throws IOException {
+        long staleBefore = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(statsInterval * 3L);
+        long guildCount = 0;
+        int nodes = 0;
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "node-*.properties")) {
+            for (Path file : files) {
+                Properties stats = new Properties();
+                try (Reader reader = Files.newBufferedReader(file)) {
+                    stats.load(reader);
+                } catch (NoSuchFileException e) {
+                    continue;
+                }
+
+                try {
+                    if (Long.parseLong(stats.getProperty("updated", "0")) < staleBefore) {
+                        continue;
+                    }
+                    guildCount += Long.parseLong(stats.getProperty("guildCount", "0"));
+                    nodes++;
+                } catch (NumberFormatException e) {
+                    log.warn("Ignoring invalid cluster statistics in {}", file);
+                }
+            }
+        }
+
+        clusterGuildCount = guildCount;
+        activeNodeCount = nodes;
+    }
+}
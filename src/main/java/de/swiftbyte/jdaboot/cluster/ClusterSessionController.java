@@ -0,0 +1,101 @@
+package de.swiftbyte.jdaboot.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.utils.SessionController;
+import net.dv8tion.jda.api.utils.SessionControllerAdapter;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The ClusterSessionController class orders the logins of the shards across all nodes of a cluster.
+ * Each identify bucket has a worker thread, which takes the {@link IdentifyLock} of its bucket before a shard logs in
+ * and keeps it for the identify delay Discord requires between two logins of the same bucket.
+ *
+ * @since 1.0.0-beta.1
+ */
+@Slf4j
+public class ClusterSessionController extends SessionControllerAdapter {
+
+    private final IdentifyLock identifyLock;
+
+    private final Worker[] workers;
+
+    /**
+     * Constructor for ClusterSessionController.
+     *
+     * @param identifyLock The lock service shared by all nodes.
+     * @param concurrency  The login concurrency of the bot, which is the number of identify buckets.
+     * @since 1.0.0-beta.1
+     */
+    public ClusterSessionController(IdentifyLock identifyLock, int concurrency) {
+        this.identifyLock = identifyLock;
+        this.workers = new Worker[Math.max(1, concurrency)];
+    }
+
+    /**
+     * Queues the login of the specified shard in its identify bucket.
+     *
+     * @param node The shard to log in.
+     * @since 1.0.0-beta.1
+     */
+    @Override
+    public void appendSession(SessionConnectNode node) {
+        getWorker(node.getShardInfo().getShardId() % workers.length).queue.add(node);
+    }
+
+    /**
+     * Removes the specified shard from the queue of its identify bucket.
+     *
+     * @param node The shard to remove.
+     * @since 1.0.0-beta.1
+     */
+    @Override
+    public void removeSession(SessionConnectNode node) {
+        getWorker(node.getShardInfo().getShardId() % workers.length).queue.remove(node);
+    }
+
+    private synchronized Worker getWorker(int bucket) {
+        if (workers[bucket] == null) {
+            workers[bucket] = new Worker(bucket);
+            workers[bucket].start();
+        }
+        return workers[bucket];
+    }
+
+    private class Worker extends Thread {
+
+        private final int bucket;
+
+        private final BlockingQueue<SessionConnectNode> queue = new LinkedBlockingQueue<>();
+
+        private Worker(int bucket) {
+            super("JDABoot-identify-" + bucket);
+            this.bucket = bucket;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (!isInterrupted()) {
+                try {
+                    SessionConnectNode node = queue.take();
+                    try (IdentifyLock.Handle ignored = identifyLock.acquire(bucket)) {
+                        node.run(queue.isEmpty());
+                        TimeUnit.SECONDS.sleep(SessionController.IDENTIFY_DELAY);
+                    } catch (IOException e) {
+                        log.error("Failed to acquire the identify lock of bucket {}, retrying shard {}", bucket, node.getShardInfo().getShardId(), e);
+                        queue.add(node);
+                        TimeUnit.SECONDS.sleep(SessionController.IDENTIFY_DELAY);
+                    } catch (RuntimeException e) {
+                        log.error("Failed to log in shard {}", node.getShardInfo().getShardId(), e);
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+}
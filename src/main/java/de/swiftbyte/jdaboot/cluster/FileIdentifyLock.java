@@ -0,0 +1,62 @@
+package de.swiftbyte.jdaboot.cluster;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The FileIdentifyLock class implements the {@link IdentifyLock} with file locks in a directory shared by all nodes.
+ * Every identify bucket has its own lock file. The directory must be on a file system that supports file locks
+ * across processes, which is always the case for a local directory.
+ *
+ * @since 1.0.0-beta.1
+ */
+public class FileIdentifyLock implements IdentifyLock {
+
+    private final Path directory;
+
+    /**
+     * Constructor for FileIdentifyLock. Creates the lock directory if it does not exist.
+     *
+     * @param directory The directory shared by all nodes of the cluster.
+     * @throws IOException If the directory could not be created.
+     * @since 1.0.0-beta.1
+     */
+    public FileIdentifyLock(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    /**
+     * Blocks until the lock file of the specified identify bucket is locked.
+     *
+     * @param bucket The identify bucket.
+     * @return A handle that releases the file lock when it is closed.
+     * @throws IOException          If the lock file could not be opened or locked.
+     * @throws InterruptedException If the thread is interrupted while waiting for the lock.
+     * @since 1.0.0-beta.1
+     */
+    @Override
+    public Handle acquire(int bucket) throws IOException, InterruptedException {
+        FileChannel channel = FileChannel.open(directory.resolve("identify-" + bucket + ".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            FileLock lock = channel.lock();
+            return () -> {
+                try {
+                    lock.release();
+                } finally {
+                    channel.close();
+                }
+            };
+        } catch (IOException e) {
+            channel.close();
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Interrupted while waiting for the identify lock of bucket " + bucket);
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package de.swiftbyte.jdaboot.cluster;
+
+import java.io.IOException;
+
+/**
+ * The IdentifyLock interface is a lock service that makes sure only one shard of an identify bucket
+ * logs in at a time, even if the shards are run by different processes.
+ *
+ * @since 1.0.0-beta.1
+ */
+public interface IdentifyLock {
+
+    /**
+     * Blocks until the lock of the specified identify bucket is acquired.
+     *
+     * @param bucket The identify bucket, which is the shard ID modulo the login concurrency.
+     * @return A handle that releases the lock when it is closed.
+     * @throws IOException          If the lock could not be acquired.
+     * @throws InterruptedException If the thread is interrupted while waiting for the lock.
+     * @since 1.0.0-beta.1
+     */
+    Handle acquire(int bucket) throws IOException, InterruptedException;
+
+    /**
+     * A held identify lock.
+     *
+     * @since 1.0.0-beta.1
+     */
+    interface Handle extends AutoCloseable {
+
+        /**
+         * Releases the lock.
+         *
+         * @throws IOException If the lock could not be released.
+         * @since 1.0.0-beta.1
+         */
+        @Override
+        void close() throws IOException;
+    }
+}
@@ -1,9 +1,9 @@
 package de.swiftbyte.jdaboot.embed;
 
-import de.swiftbyte.jdaboot.annotation.embed.Embed;
-import de.swiftbyte.jdaboot.annotation.embed.EmbedField;
+import de.swiftbyte.jdaboot.annotation.DefaultVariable;
 import de.swiftbyte.jdaboot.utils.StringUtils;
-import de.swiftbyte.jdaboot.variables.VariableProcessor;
+import de.swiftbyte.jdaboot.variables.VariableTemplate;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +36,9 @@ public class AdvancedEmbed {
     private HashMap<String, String> variables = new HashMap<>();
     private List<DynamicEmbedField> dynamicFields = new ArrayList<>();
 
+    @Getter(AccessLevel.NONE)
+    private VariableTemplate.Dependencies dependencies;
+
     /**
      * Constructor for AdvancedEmbed. Initializes the embed with the specified template, variables, and locale.
      *
@@ -81,18 +84,6 @@ public class AdvancedEmbed {
         return this;
     }
 
-    /**
-     * Sets the variables to be used in the embed.
-     *
-     * @param variables The variables to use in the embed.
-     * @return The AdvancedEmbed instance for chaining.
-     * @since 1.0.0-alpha.7
-     */
-    private AdvancedEmbed setVariables(HashMap<String, String> variables) {
-        this.variables = variables;
-        return this;
-    }
-
     /**
      * Add a field to the embed at runtime. The field also supports variables.
      *
@@ -156,6 +147,8 @@ public class AdvancedEmbed {
 
     /**
      * Generates a MessageEmbed based on the template and the set variables, with the specified timestamp.
+     * Embeds without dynamic fields are taken from the render cache of the template if they were built before with
+     * the same locale and variables.
      *
      * @param timestamp The timestamp to set in the embed.
      * @return The generated MessageEmbed.
@@ -163,11 +156,28 @@ public class AdvancedEmbed {
      */
     public MessageEmbed build(Instant timestamp) {
 
-        return generateEmbedBuilder(timestamp).build();
+        if (locale == null || !dynamicFields.isEmpty()) {
+            return generateEmbedBuilder(timestamp).build();
+        }
+
+        long generation = template.getRenderGeneration();
+        MessageEmbed embed = template.getRenderedEmbed(locale, variables);
+        if (embed == null) {
+            dependencies = new VariableTemplate.Dependencies();
+            try {
+                embed = generateEmbedBuilder(null).build();
+                template.cacheRenderedEmbed(generation, locale, variables, embed, dependencies);
+            } finally {
+                dependencies = null;
+            }
+        }
+
+        return timestamp == null ? embed : new EmbedBuilder(embed).setTimestamp(timestamp).build();
     }
 
     /**
      * Generates a EmbedBuilder based on the template and the set variables, with the specified timestamp.
+     * Each property is taken from the most specific embed of the flattened basedOn chain whose value is not blank.
      *
      * @param timestamp The timestamp to set in the embed.
      * @return The generated EmbedBuilder.
@@ -175,70 +185,70 @@ public class AdvancedEmbed {
      */
     private EmbedBuilder generateEmbedBuilder(Instant timestamp) {
         EmbedBuilder builder = new EmbedBuilder();
-        Embed embed = template.getEmbed();
-
-        if (StringUtils.isNotBlank(embed.basedOn())) {
-            TemplateEmbed basedOn = EmbedManager.getTemplateEmbed(embed.basedOn());
-            if (basedOn != null) {
-                builder.copyFrom(EmbedManager.getTemplateEmbed(embed.basedOn()).advancedEmbed(locale).setVariables(variables).generateEmbedBuilder(timestamp));
-            } else {
-                log.error("Embed with ID {} is based on an unknown embed with ID {}!", embed.id(), embed.basedOn());
+        ResolvedEmbed resolved = template.getResolvedEmbed();
+
+        for (ResolvedEmbed.Property title : resolved.titles) {
+            String text = render(title.value(), title.defaultVars());
+            if (StringUtils.isNotBlank(text)) {
+                String url = render(title.url(), title.defaultVars());
+                builder.setTitle(text, StringUtils.isNotBlank(url) ? url : null);
+                break;
             }
         }
 
-        if (StringUtils.isNotBlank(embed.title())) {
-            String title = processVar(embed.title());
-            String url = processVar(embed.url());
-            if (StringUtils.isNotBlank(title)) {
-                builder.setTitle(title, StringUtils.isNotBlank(url) ? url : null);
-            }
-        }
-
-        if (StringUtils.isNotBlank(embed.thumbnailUrl())) {
-            String thumbnailUrl = processVar(embed.thumbnailUrl());
+        for (ResolvedEmbed.Property thumbnail : resolved.thumbnails) {
+            String thumbnailUrl = render(thumbnail.value(), thumbnail.defaultVars());
             if (StringUtils.isNotBlank(thumbnailUrl)) {
                 builder.setThumbnail(thumbnailUrl);
+                break;
             }
         }
 
-        if (StringUtils.isNotBlank(embed.imageUrl())) {
-            String imageUrl = processVar(embed.imageUrl());
+        for (ResolvedEmbed.Property image : resolved.images) {
+            String imageUrl = render(image.value(), image.defaultVars());
             if (StringUtils.isNotBlank(imageUrl)) {
                 builder.setImage(imageUrl);
+                break;
             }
         }
 
-        if (StringUtils.isNotBlank(embed.description())) {
-            String description = processVar(embed.description());
-            if (StringUtils.isNotBlank(description)) {
-                builder.setDescription(description);
+        for (ResolvedEmbed.Property description : resolved.descriptions) {
+            String text = render(description.value(), description.defaultVars());
+            if (StringUtils.isNotBlank(text)) {
+                builder.setDescription(text);
+                break;
             }
         }
 
-        String hexColor = processVar(embed.hexColor());
-        if (StringUtils.isNotBlank(hexColor) || embed.color().getColor() != null) {
-            builder.setColor(StringUtils.isNotBlank(hexColor) ? Color.decode(hexColor) : embed.color().getColor());
+        for (ResolvedEmbed.Property color : resolved.colors) {
+            String hexColor = render(color.value(), color.defaultVars());
+            if (StringUtils.isNotBlank(hexColor) || color.color() != null) {
+                builder.setColor(StringUtils.isNotBlank(hexColor) ? Color.decode(hexColor) : color.color());
+                break;
+            }
         }
 
-        if (StringUtils.isNotBlank(embed.author().name())) {
-            String authorName = processVar(embed.author().name());
-            String authorUrl = processVar(embed.author().url());
-            String authorIconUrl = processVar(embed.author().iconUrl());
+        for (ResolvedEmbed.Property author : resolved.authors) {
+            String authorName = render(author.value(), author.defaultVars());
             if (StringUtils.isNotBlank(authorName)) {
+                String authorUrl = render(author.url(), author.defaultVars());
+                String authorIconUrl = render(author.iconUrl(), author.defaultVars());
                 builder.setAuthor(authorName, StringUtils.isNotBlank(authorUrl) ? authorUrl : null, StringUtils.isNotBlank(authorIconUrl) ? authorIconUrl : null);
+                break;
             }
         }
 
-        if (StringUtils.isNotBlank(embed.footer().text())) {
-            String footerText = processVar(embed.footer().text());
-            String footerIconUrl = processVar(embed.footer().iconUrl());
+        for (ResolvedEmbed.Property footer : resolved.footers) {
+            String footerText = render(footer.value(), footer.defaultVars());
             if (StringUtils.isNotBlank(footerText)) {
+                String footerIconUrl = render(footer.iconUrl(), footer.defaultVars());
                 builder.setFooter(footerText, StringUtils.isNotBlank(footerIconUrl) ? footerIconUrl : null);
+                break;
             }
         }
 
-        for (EmbedField embedField : embed.fields()) {
-            builder.addField(processVar(embedField.title()), processVar(embedField.description()), embedField.inline());
+        for (ResolvedEmbed.Field field : resolved.fields) {
+            builder.addField(render(field.title(), field.defaultVars()), render(field.description(), field.defaultVars()), field.inline());
         }
 
         for (DynamicEmbedField dynamicField : dynamicFields) {
@@ -260,7 +270,19 @@ public class AdvancedEmbed {
      * @since alpha.4
      */
     private String processVar(String old) {
-        return VariableProcessor.processVariable(locale, old, variables, template.getEmbed().defaultVars());
+        return render(VariableTemplate.of(old), template.getEmbed().defaultVars());
+    }
+
+    /**
+     * Renders a template of the resolved embed with the default variables of the embed of the chain that defines it.
+     *
+     * @param value       The precompiled template.
+     * @param defaultVars The default variables of the embed that defines the template.
+     * @return The rendered string.
+     * @since 1.0.0-beta.1
+     */
+    private String render(VariableTemplate value, DefaultVariable[] defaultVars) {
+        return value.render(locale, variables, defaultVars, dependencies);
     }
 
     /**
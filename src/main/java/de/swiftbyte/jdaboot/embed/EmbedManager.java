@@ -1,17 +1,18 @@
 package de.swiftbyte.jdaboot.embed;
 
+import de.swiftbyte.jdaboot.JDABootComponentIndex;
+import de.swiftbyte.jdaboot.JDABootConfigurationManager;
 import de.swiftbyte.jdaboot.JDABootObjectManager;
 import de.swiftbyte.jdaboot.annotation.embed.Embed;
 import de.swiftbyte.jdaboot.utils.StringUtils;
+import de.swiftbyte.jdaboot.variables.TranslationProcessor;
 import lombok.extern.slf4j.Slf4j;
-import org.reflections.Reflections;
-import org.reflections.scanners.Scanners;
 
-import java.util.HashMap;
+import java.util.*;
 
 /**
  * The EmbedManager class is responsible for managing embeds in the application.
- * It uses reflection to find fields annotated with @Embed and sets them to a new instance of TemplateEmbed created with the @Embed annotation.
+ * It looks up fields annotated with @Embed in the component index and sets them to a new instance of TemplateEmbed created with the @Embed annotation.
  *
  * @since alpha.4
  */
@@ -20,21 +21,25 @@ public class EmbedManager {
 
     private static HashMap<String, TemplateEmbed> templateEmbeds = new HashMap<>();
 
+    private final Runnable translationListener;
+
     /**
-     * Constructor for EmbedManager. Initializes the manager with the specified main class.
+     * Constructor for EmbedManager. Initializes the manager with the specified component index.
      *
-     * @param mainClass The main class of your project.
+     * @param index The component index of your project.
      * @since alpha.4
      */
-    public EmbedManager(Class<?> mainClass) {
+    public EmbedManager(JDABootComponentIndex index) {
 
-        Reflections reflections = new Reflections(mainClass.getPackageName(), Scanners.FieldsAnnotated);
+        int renderCacheSize = JDABootConfigurationManager.getConfigProviderChain().getInt("jdaboot.embeds.render-cache-size", 64);
+        List<TemplateEmbed> templates = new ArrayList<>();
 
-        reflections.getFieldsAnnotatedWith(Embed.class).forEach(field -> {
+        index.getFieldsAnnotatedWith(Embed.class).forEach(field -> {
 
             Embed embedAnnotation = field.getAnnotation(Embed.class);
 
-            TemplateEmbed templateEmbed = new TemplateEmbed(embedAnnotation);
+            TemplateEmbed templateEmbed = new TemplateEmbed(embedAnnotation, renderCacheSize);
+            templates.add(templateEmbed);
 
             if (StringUtils.isNotBlank(embedAnnotation.id())) {
                 templateEmbeds.put(embedAnnotation.id(), templateEmbed);
@@ -43,6 +48,19 @@ public class EmbedManager {
             JDABootObjectManager.injectField(field.getDeclaringClass(), field, templateEmbed);
 
         });
+
+        templates.forEach(template -> template.setResolvedEmbed(resolve(template)));
+        translationListener = () -> templates.forEach(TemplateEmbed::clearRenderCache);
+        TranslationProcessor.addInvalidationListener(translationListener);
+    }
+
+    /**
+     * Stops clearing the render caches of the embeds when the translations change. Called when the bot shuts down.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public void shutdown() {
+        TranslationProcessor.removeInvalidationListener(translationListener);
     }
 
 
@@ -56,4 +74,49 @@ public class EmbedManager {
     public static TemplateEmbed getTemplateEmbed(String id) {
         return templateEmbeds.get(id);
     }
+
+    /**
+     * Flattens the basedOn chain of the specified TemplateEmbed. A chain that refers to an unknown embed ends there,
+     * and a chain that leads back to an embed it already contains is cut before that embed. Both are logged.
+     *
+     * @param template The TemplateEmbed to resolve.
+     * @return The resolved template.
+     * @since 1.0.0-beta.1
+     */
+    static ResolvedEmbed resolve(TemplateEmbed template) {
+        return resolve(template, templateEmbeds);
+    }
+
+    /**
+     * Flattens the basedOn chain of the specified TemplateEmbed, looking up the embeds it is based on in the specified map.
+     *
+     * @param template       The TemplateEmbed to resolve.
+     * @param templateEmbeds The TemplateEmbeds by their ID.
+     * @return The resolved template.
+     * @since 1.0.0-beta.1
+     */
+    static ResolvedEmbed resolve(TemplateEmbed template, Map<String, TemplateEmbed> templateEmbeds) {
+        List<Embed> chain = new ArrayList<>();
+        Set<TemplateEmbed> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        TemplateEmbed current = template;
+
+        while (current != null && visited.add(current)) {
+            Embed embed = current.getEmbed();
+            chain.add(embed);
+            if (StringUtils.isBlank(embed.basedOn())) {
+                break;
+            }
+
+            TemplateEmbed basedOn = templateEmbeds.get(embed.basedOn());
+            if (basedOn == null) {
+                log.error("Embed with ID {} is based on an unknown embed with ID {}!", embed.id(), embed.basedOn());
+            } else if (visited.contains(basedOn)) {
+                log.error("Embed with ID {} is based on embed with ID {}, which is already part of its chain {}! Ignoring the base embed.",
+                        embed.id(), embed.basedOn(), chain.stream().map(Embed::id).toList());
+            }
+            current = basedOn;
+        }
+
+        return new ResolvedEmbed(chain);
+    }
 }
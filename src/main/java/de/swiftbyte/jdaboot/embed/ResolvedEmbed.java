@@ -0,0 +1,134 @@
+package de.swiftbyte.jdaboot.embed;
+
+import de.swiftbyte.jdaboot.annotation.DefaultVariable;
+import de.swiftbyte.jdaboot.annotation.embed.Embed;
+import de.swiftbyte.jdaboot.annotation.embed.EmbedField;
+import de.swiftbyte.jdaboot.utils.StringUtils;
+import de.swiftbyte.jdaboot.variables.VariableTemplate;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The ResolvedEmbed class is a TemplateEmbed with its basedOn chain flattened into a single structure.
+ * For every property it holds the values of the embeds of the chain that define the property, from the most specific
+ * embed to the base embed, so a build uses the first of them that is not blank after processing the variables, just
+ * like a based embed overrides the values of its base embed. The fields of all embeds are collected from the base embed on.
+ * All values are parsed into templates once, so building an embed never parses or looks up a string.
+ *
+ * @since 1.0.0-beta.1
+ */
+final class ResolvedEmbed {
+
+    private static final VariableTemplate EMPTY = VariableTemplate.parse("");
+
+    final Property[] titles;
+
+    final Property[] descriptions;
+
+    final Property[] thumbnails;
+
+    final Property[] images;
+
+    final Property[] colors;
+
+    final Property[] authors;
+
+    final Property[] footers;
+
+    final Field[] fields;
+
+    /**
+     * Constructor for ResolvedEmbed.
+     *
+     * @param chain The embed and the embeds it is based on, from the embed itself to the base embed.
+     * @since 1.0.0-beta.1
+     */
+    ResolvedEmbed(List<Embed> chain) {
+        titles = collect(chain, embed -> StringUtils.isNotBlank(embed.title()),
+                embed -> new Property(embed, embed.title(), embed.url(), ""));
+        descriptions = collect(chain, embed -> StringUtils.isNotBlank(embed.description()),
+                embed -> new Property(embed, embed.description(), "", ""));
+        thumbnails = collect(chain, embed -> StringUtils.isNotBlank(embed.thumbnailUrl()),
+                embed -> new Property(embed, embed.thumbnailUrl(), "", ""));
+        images = collect(chain, embed -> StringUtils.isNotBlank(embed.imageUrl()),
+                embed -> new Property(embed, embed.imageUrl(), "", ""));
+        colors = collect(chain, embed -> StringUtils.isNotBlank(embed.hexColor()) || embed.color().getColor() != null,
+                embed -> new Property(embed, embed.hexColor(), "", ""));
+        authors = collect(chain, embed -> StringUtils.isNotBlank(embed.author().name()),
+                embed -> new Property(embed, embed.author().name(), embed.author().url(), embed.author().iconUrl()));
+        footers = collect(chain, embed -> StringUtils.isNotBlank(embed.footer().text()),
+                embed -> new Property(embed, embed.footer().text(), "", embed.footer().iconUrl()));
+
+        List<Field> fieldList = new ArrayList<>();
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            for (EmbedField field : chain.get(i).fields()) {
+                fieldList.add(new Field(template(field.title()), template(field.description()), field.inline(), chain.get(i).defaultVars()));
+            }
+        }
+        fields = fieldList.toArray(new Field[0]);
+    }
+
+    /**
+     * Returns whether the embeds of the chain contain only literal text and translations.
+     *
+     * @return true if no property contains a variable or configuration placeholder.
+     * @since 1.0.0-beta.1
+     */
+    boolean isStatic() {
+        for (Property[] properties : new Property[][]{titles, descriptions, thumbnails, images, colors, authors, footers}) {
+            for (Property property : properties) {
+                if (!property.value.isTranslationOnly() || !property.url.isTranslationOnly() || !property.iconUrl.isTranslationOnly()) {
+                    return false;
+                }
+            }
+        }
+        for (Field field : fields) {
+            if (!field.title.isTranslationOnly() || !field.description.isTranslationOnly()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Property[] collect(List<Embed> chain, Predicate<Embed> definesProperty, Function<Embed, Property> property) {
+        return chain.stream().filter(definesProperty).map(property).toArray(Property[]::new);
+    }
+
+    private static VariableTemplate template(String value) {
+        return value.isEmpty() ? EMPTY : VariableTemplate.parse(value);
+    }
+
+    /**
+     * A property of an embed in the chain, together with the default variables of that embed.
+     * Properties without a URL or icon URL hold empty templates for them.
+     *
+     * @param value       The main value of the property, like the title or the hex color.
+     * @param url         The URL that belongs to the value, like the URL of the title.
+     * @param iconUrl     The icon URL of the author or footer.
+     * @param color       The predefined color of the embed.
+     * @param defaultVars The default variables of the embed.
+     * @since 1.0.0-beta.1
+     */
+    record Property(VariableTemplate value, VariableTemplate url, VariableTemplate iconUrl, Color color, DefaultVariable[] defaultVars) {
+
+        private Property(Embed embed, String value, String url, String iconUrl) {
+            this(template(value), template(url), template(iconUrl), embed.color().getColor(), embed.defaultVars());
+        }
+    }
+
+    /**
+     * A field of an embed in the chain, together with the default variables of that embed.
+     *
+     * @param title       The title of the field.
+     * @param description The description of the field.
+     * @param inline      Whether the field is inline.
+     * @param defaultVars The default variables of the embed.
+     * @since 1.0.0-beta.1
+     */
+    record Field(VariableTemplate title, VariableTemplate description, boolean inline, DefaultVariable[] defaultVars) {
+    }
+}
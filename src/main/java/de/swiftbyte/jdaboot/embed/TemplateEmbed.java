@@ -1,13 +1,23 @@
 package de.swiftbyte.jdaboot.embed;
 
 import de.swiftbyte.jdaboot.annotation.embed.Embed;
+import de.swiftbyte.jdaboot.variables.VariableTemplate;
 import lombok.AccessLevel;
 import lombok.Getter;
+import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.interactions.DiscordLocale;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 /**
  * The TemplateEmbed class is responsible for generating advanced embeds based on a provided template.
  * It uses the Embed annotation to define the template and the AdvancedEmbed class to generate the final embed.
+ * <p>
+ * Built embeds are kept in a bounded render cache keyed by the locale and the variables of the embed, and are shared
+ * by all builds with the same locale and variables. Templates without variables are rendered only once per locale.
+ * Embeds that depend on global variables or have dynamic fields are built every time.
  *
  * @since alpha.4
  */
@@ -16,6 +26,28 @@ public class TemplateEmbed {
     @Getter(AccessLevel.PACKAGE)
     private final Embed embed;
 
+    private final int renderCacheSize;
+
+    private final Map<RenderKey, MessageEmbed> renderCache;
+
+    private final AtomicReferenceArray<MessageEmbed> prerendered = new AtomicReferenceArray<>(DiscordLocale.values().length);
+
+    /**
+     * Incremented whenever the render cache is cleared, so embeds that were built before are not cached afterwards.
+     * Only changed while holding the lock of the render cache.
+     */
+    private volatile long renderGeneration;
+
+    /**
+     * Whether the template and the templates it is based on contain no variable or configuration placeholders.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private volatile boolean staticTemplate;
+
+    private volatile ResolvedEmbed resolved;
+
     /**
      * Constructor for TemplateEmbed. Initializes the template with the specified Embed annotation.
      *
@@ -23,7 +55,25 @@ public class TemplateEmbed {
      * @since alpha.4
      */
     protected TemplateEmbed(Embed embed) {
+        this(embed, 0);
+    }
+
+    /**
+     * Constructor for TemplateEmbed. Initializes the template with the specified Embed annotation.
+     *
+     * @param embed           The Embed annotation to use as a template.
+     * @param renderCacheSize The number of built embeds that are cached, 0 to disable the render cache.
+     * @since 1.0.0-beta.1
+     */
+    protected TemplateEmbed(Embed embed, int renderCacheSize) {
         this.embed = embed;
+        this.renderCacheSize = renderCacheSize;
+        this.renderCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<RenderKey, MessageEmbed> eldest) {
+                return size() > renderCacheSize;
+            }
+        };
     }
 
     /**
@@ -46,4 +96,112 @@ public class TemplateEmbed {
     public AdvancedEmbed advancedEmbed() {
         return new AdvancedEmbed(this, DiscordLocale.ENGLISH_US);
     }
+
+    /**
+     * Returns the template with its basedOn chain flattened. The chain is resolved by the EmbedManager when all
+     * templates are loaded, or on the first build for templates that were created later.
+     *
+     * @return The resolved template.
+     * @since 1.0.0-beta.1
+     */
+    ResolvedEmbed getResolvedEmbed() {
+        ResolvedEmbed current = resolved;
+        if (current == null) {
+            current = EmbedManager.resolve(this);
+            setResolvedEmbed(current);
+        }
+        return current;
+    }
+
+    /**
+     * Sets the template with its basedOn chain flattened, and checks whether it contains only literal text and translations.
+     *
+     * @param resolved The resolved template.
+     * @since 1.0.0-beta.1
+     */
+    void setResolvedEmbed(ResolvedEmbed resolved) {
+        this.staticTemplate = resolved.isStatic();
+        this.resolved = resolved;
+    }
+
+    /**
+     * Returns the cached embed for the specified locale and variables.
+     *
+     * @param locale    The locale of the embed.
+     * @param variables The variables of the embed.
+     * @return The cached embed, or null if it was not built yet.
+     * @since 1.0.0-beta.1
+     */
+    MessageEmbed getRenderedEmbed(DiscordLocale locale, Map<String, String> variables) {
+        if (renderCacheSize <= 0) {
+            return null;
+        }
+        if (staticTemplate) {
+            MessageEmbed embed = prerendered.get(locale.ordinal());
+            if (embed != null) {
+                return embed;
+            }
+        }
+        synchronized (renderCache) {
+            return renderCache.get(new RenderKey(locale, variables));
+        }
+    }
+
+    /**
+     * Returns the generation of the render cache, which has to be read before an embed is built and passed to
+     * {@link #cacheRenderedEmbed} with the built embed.
+     *
+     * @return The current generation of the render cache.
+     * @since 1.0.0-beta.1
+     */
+    long getRenderGeneration() {
+        return renderGeneration;
+    }
+
+    /**
+     * Caches a built embed, unless it depends on values that can change between builds or the render cache was cleared
+     * while it was built.
+     *
+     * @param generation   The generation of the render cache read before the embed was built.
+     * @param locale       The locale of the embed.
+     * @param variables    The variables of the embed.
+     * @param embed        The built embed.
+     * @param dependencies The dependencies recorded while building the embed.
+     * @since 1.0.0-beta.1
+     */
+    void cacheRenderedEmbed(long generation, DiscordLocale locale, Map<String, String> variables, MessageEmbed embed,
+                            VariableTemplate.Dependencies dependencies) {
+        if (renderCacheSize <= 0 || dependencies.usesGlobalVariables()) {
+            return;
+        }
+        RenderKey key = staticTemplate && !dependencies.usesVariables() ? null : new RenderKey(locale, Map.copyOf(variables));
+        synchronized (renderCache) {
+            if (generation != renderGeneration) {
+                return;
+            }
+            if (key == null) {
+                prerendered.set(locale.ordinal(), embed);
+            } else {
+                renderCache.put(key, embed);
+            }
+        }
+    }
+
+    /**
+     * Removes all cached embeds, for example after the translations changed.
+     *
+     * @since 1.0.0-beta.1
+     */
+    void clearRenderCache() {
+        synchronized (renderCache) {
+            renderGeneration++;
+            for (int i = 0; i < prerendered.length(); i++) {
+                prerendered.set(i, null);
+            }
+            renderCache.clear();
+        }
+    }
+
+    private record RenderKey(DiscordLocale locale, Map<String, String> variables) {
+    }
 }
@@ -0,0 +1,121 @@
+package de.swiftbyte.jdaboot.event;
+
+import de.swiftbyte.jdaboot.annotation.EventHandler;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.Channel;
+import net.dv8tion.jda.api.entities.channel.middleman.GuildChannel;
+import net.dv8tion.jda.api.events.GenericEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles the filters of an @EventHandler annotation into a single predicate, which is evaluated on the event thread
+ * before the handler is invoked.
+ *
+ * @since 1.0.0-beta.1
+ */
+final class EventFilter {
+
+    private EventFilter() {
+    }
+
+    /**
+     * Compiles the filters of the specified annotation.
+     *
+     * @param annotation The annotation of the event handler.
+     * @return The predicate an event has to match, or null if the annotation defines no filters.
+     * @throws IllegalArgumentException If a guild or channel ID is not a number or the content regex is invalid.
+     * @since 1.0.0-beta.1
+     */
+    static Predicate<GenericEvent> compile(EventHandler annotation) {
+        List<Predicate<GenericEvent>> filters = new ArrayList<>();
+
+        if (annotation.guildIds().length > 0) {
+            long[] guildIds = parseIds(annotation.guildIds());
+            filters.add(event -> {
+                Guild guild = EventKeys.guild(event);
+                return guild != null && contains(guildIds, guild.getIdLong());
+            });
+        }
+
+        if (annotation.channelIds().length > 0) {
+            long[] channelIds = parseIds(annotation.channelIds());
+            filters.add(event -> {
+                Channel channel = EventKeys.channel(event);
+                return channel != null && contains(channelIds, channel.getIdLong());
+            });
+        }
+
+        if (annotation.ignoreBots()) {
+            filters.add(event -> {
+                User user = EventKeys.user(event);
+                return user == null || !user.isBot();
+            });
+        }
+
+        if (!annotation.contentPrefix().isEmpty()) {
+            String prefix = annotation.contentPrefix();
+            filters.add(event -> {
+                String content = EventKeys.content(event);
+                return content != null && content.startsWith(prefix);
+            });
+        }
+
+        if (!annotation.contentRegex().isEmpty()) {
+            Pattern pattern = Pattern.compile(annotation.contentRegex());
+            filters.add(event -> {
+                String content = EventKeys.content(event);
+                return content != null && pattern.matcher(content).find();
+            });
+        }
+
+        if (annotation.requiredPermissions().length > 0) {
+            EnumSet<Permission> permissions = EnumSet.copyOf(Arrays.asList(annotation.requiredPermissions()));
+            filters.add(event -> {
+                Member member = EventKeys.member(event);
+                if (member == null) {
+                    return false;
+                }
+                return EventKeys.channel(event) instanceof GuildChannel channel ? member.hasPermission(channel, permissions) : member.hasPermission(permissions);
+            });
+        }
+
+        return filters.stream().reduce(Predicate::and).orElse(null);
+    }
+
+    /**
+     * Returns whether the specified annotation defines a filter on the message content.
+     *
+     * @param annotation The annotation of the event handler.
+     * @return True if the handler filters by message content, false otherwise.
+     * @since 1.0.0-beta.1
+     */
+    static boolean filtersContent(EventHandler annotation) {
+        return !annotation.contentPrefix().isEmpty() || !annotation.contentRegex().isEmpty();
+    }
+
+    private static long[] parseIds(String[] ids) {
+        long[] parsed = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            parsed[i] = Long.parseUnsignedLong(ids[i].trim());
+        }
+        return parsed;
+    }
+
+    private static boolean contains(long[] ids, long id) {
+        for (long candidate : ids) {
+            if (candidate == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,151 @@
+package de.swiftbyte.jdaboot.event;
+
+import de.swiftbyte.jdaboot.annotation.EventHandler;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.Channel;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.channel.GenericChannelEvent;
+import net.dv8tion.jda.api.events.guild.GenericGuildEvent;
+import net.dv8tion.jda.api.events.guild.member.GenericGuildMemberEvent;
+import net.dv8tion.jda.api.events.guild.voice.GenericGuildVoiceEvent;
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+import net.dv8tion.jda.api.events.message.GenericMessageEvent;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import net.dv8tion.jda.api.events.message.MessageUpdateEvent;
+import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
+
+/**
+ * Extracts the guild, channel, user and message content of an event without knowing its concrete type.
+ *
+ * @since 1.0.0-beta.1
+ */
+final class EventKeys {
+
+    private EventKeys() {
+    }
+
+    /**
+     * Returns the guild the specified event belongs to.
+     *
+     * @param event The event.
+     * @return The guild, or null if the event does not belong to a guild.
+     * @since 1.0.0-beta.1
+     */
+    static Guild guild(GenericEvent event) {
+        if (event instanceof GenericGuildEvent guildEvent) {
+            return guildEvent.getGuild();
+        } else if (event instanceof GenericMessageEvent messageEvent) {
+            return messageEvent.isFromGuild() ? messageEvent.getGuild() : null;
+        } else if (event instanceof GenericInteractionCreateEvent interactionEvent) {
+            return interactionEvent.getGuild();
+        } else if (event instanceof GenericChannelEvent channelEvent) {
+            return channelEvent.isFromGuild() ? channelEvent.getGuild() : null;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the channel the specified event belongs to.
+     *
+     * @param event The event.
+     * @return The channel, or null if the event does not belong to a channel.
+     * @since 1.0.0-beta.1
+     */
+    static Channel channel(GenericEvent event) {
+        if (event instanceof GenericMessageEvent messageEvent) {
+            return messageEvent.getChannel();
+        } else if (event instanceof GenericInteractionCreateEvent interactionEvent) {
+            return interactionEvent.getChannel();
+        } else if (event instanceof GenericChannelEvent channelEvent) {
+            return channelEvent.getChannel();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the user that triggered the specified event.
+     *
+     * @param event The event.
+     * @return The user, or null if the event was not triggered by a user or the user is not cached.
+     * @since 1.0.0-beta.1
+     */
+    static User user(GenericEvent event) {
+        if (event instanceof MessageReceivedEvent messageEvent) {
+            return messageEvent.getAuthor();
+        } else if (event instanceof MessageUpdateEvent messageEvent) {
+            return messageEvent.getAuthor();
+        } else if (event instanceof GenericMessageReactionEvent reactionEvent) {
+            return reactionEvent.getUser();
+        } else if (event instanceof GenericInteractionCreateEvent interactionEvent) {
+            return interactionEvent.getUser();
+        } else if (event instanceof GenericGuildMemberEvent memberEvent) {
+            return memberEvent.getUser();
+        } else if (event instanceof GenericGuildVoiceEvent voiceEvent) {
+            return voiceEvent.getMember().getUser();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the guild member that triggered the specified event.
+     *
+     * @param event The event.
+     * @return The member, or null if the event was not triggered by a member or the member is not cached.
+     * @since 1.0.0-beta.1
+     */
+    static Member member(GenericEvent event) {
+        if (event instanceof MessageReceivedEvent messageEvent) {
+            return messageEvent.getMember();
+        } else if (event instanceof MessageUpdateEvent messageEvent) {
+            return messageEvent.getMember();
+        } else if (event instanceof GenericMessageReactionEvent reactionEvent) {
+            return reactionEvent.getMember();
+        } else if (event instanceof GenericInteractionCreateEvent interactionEvent) {
+            return interactionEvent.getMember();
+        } else if (event instanceof GenericGuildMemberEvent memberEvent) {
+            return memberEvent.getMember();
+        } else if (event instanceof GenericGuildVoiceEvent voiceEvent) {
+            return voiceEvent.getMember();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the raw content of the message of the specified event.
+     *
+     * @param event The event.
+     * @return The raw message content, or null if the event does not carry a message.
+     * @since 1.0.0-beta.1
+     */
+    static String content(GenericEvent event) {
+        if (event instanceof MessageReceivedEvent messageEvent) {
+            return messageEvent.getMessage().getContentRaw();
+        } else if (event instanceof MessageUpdateEvent messageEvent) {
+            return messageEvent.getMessage().getContentRaw();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the key that orders the specified event. Falls back from the guild to the channel,
+     * and to 0 for events without both, so these events run in order with each other.
+     *
+     * @param event    The event.
+     * @param ordering The ordering of the handler.
+     * @return The ordering key of the event.
+     * @since 1.0.0-beta.1
+     */
+    static long orderingKey(GenericEvent event, EventHandler.Ordering ordering) {
+        if (ordering == EventHandler.Ordering.GUILD) {
+            Guild guild = guild(event);
+            if (guild != null) {
+                return guild.getIdLong();
+            }
+        }
+
+        Channel channel = channel(event);
+        return channel != null ? channel.getIdLong() : 0;
+    }
+}
@@ -1,59 +1,98 @@
 package de.swiftbyte.jdaboot.event;
 
+import de.swiftbyte.jdaboot.JDABootComponentIndex;
+import de.swiftbyte.jdaboot.JDABootConnection;
 import de.swiftbyte.jdaboot.JDABootObjectManager;
 import de.swiftbyte.jdaboot.annotation.EventHandler;
+import de.swiftbyte.jdaboot.execution.SerialLaneExecutor;
+import de.swiftbyte.jdaboot.execution.WorkerExecutor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.events.Event;
 import net.dv8tion.jda.api.events.GenericEvent;
 import net.dv8tion.jda.api.hooks.EventListener;
+import net.dv8tion.jda.api.requests.GatewayIntent;
 import org.jetbrains.annotations.NotNull;
 import org.reflections.Reflections;
 import org.reflections.scanners.Scanners;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * The EventManager class is responsible for managing events in the application.
- * It uses reflection to find methods annotated with @EventHandler and invokes them when the corresponding event occurs.
+ * It looks up methods annotated with @EventHandler in the component index and invokes them when the corresponding event occurs.
+ * A handler is invoked for its event type and for all subtypes of it, so a handler for GenericMessageEvent also receives
+ * MessageReceivedEvent. The handlers of each concrete event class are resolved once and cached.
+ * The filters of a handler are evaluated on the event thread before it is invoked or submitted.
+ * Asynchronous handlers are submitted to the configured {@link WorkerExecutor}, ordered handlers to the
+ * {@link SerialLaneExecutor} lane of their guild or channel.
  *
  * @since alpha.4
  */
 @Slf4j
 public class EventManager implements EventListener {
 
-    Reflections reflections;
+    private static final EnumSet<GatewayIntent> PRIVILEGED_INTENTS = EnumSet.of(GatewayIntent.GUILD_MEMBERS,
+            GatewayIntent.GUILD_PRESENCES, GatewayIntent.MESSAGE_CONTENT);
 
-    HashMap<Class<Event>, List<Map.Entry<Method, Object>>> handlers = new HashMap<>();
+    List<RegisteredEventHandler> handlers = new ArrayList<>();
 
-    JDA jda;
+    /**
+     * The handlers for each concrete event class, including the handlers declared for its supertypes.
+     * Resolved lazily on the first event of a class.
+     */
+    private final ClassValue<RegisteredEventHandler[]> dispatchTable = new ClassValue<>() {
+        @Override
+        protected RegisteredEventHandler[] computeValue(@NotNull Class<?> type) {
+            return handlers.stream()
+                    .filter(handler -> handler.eventClass().isAssignableFrom(type))
+                    .toArray(RegisteredEventHandler[]::new);
+        }
+    };
+
+    JDABootConnection connection;
 
     /**
-     * Constructor for EventManager. Initializes the manager with the specified JDA instance and main class.
+     * The executor that asynchronous event handlers run on.
      *
-     * @param jda       The JDA instance to use for event handling.
-     * @param mainClass The main class of your project.
-     * @since alpha.4
+     * @since 1.0.0-beta.1
      */
-    public EventManager(JDA jda, Class<?> mainClass) {
-        this.jda = jda;
-        reflections = new Reflections(mainClass.getPackageName(), Scanners.SubTypes.filterResultsBy(c -> true));
+    @Getter
+    private final WorkerExecutor executor;
 
-        Set<Class<?>> classes = new HashSet<>(reflections.getSubTypesOf(Object.class));
-        Set<Method> methods = new HashSet<>();
+    /**
+     * The serial lanes that ordered event handlers run on.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private final SerialLaneExecutor lanes;
 
+    /**
+     * Constructor for EventManager. Initializes the manager with the specified connection and component index.
+     *
+     * @param connection The connection to Discord to use for event handling.
+     * @param index      The component index of your project.
+     * @param executor   The executor that asynchronous event handlers run on.
+     * @param lanes      The serial lanes that ordered event handlers run on.
+     * @since alpha.4
+     */
+    public EventManager(JDABootConnection connection, JDABootComponentIndex index, WorkerExecutor executor, SerialLaneExecutor lanes) {
+        this.connection = connection;
+        this.executor = executor;
+        this.lanes = lanes;
 
-        for (Class<?> clazz : classes) {
-            for (Method method : clazz.getMethods()) {
-                if (method.isAnnotationPresent(EventHandler.class)) {
-                    methods.add(method);
-                }
+        for (Method method : index.getMethodsAnnotatedWith(EventHandler.class)) {
+            if (!Modifier.isPublic(method.getModifiers())) {
+                log.warn("Found @EventHandler method {}.{} that is not public! Skipping...", method.getDeclaringClass().getName(), method.getName());
+                continue;
             }
-        }
 
-        for (Method method : methods) {
             Class<?>[] params = method.getParameterTypes();
 
             try {
@@ -81,53 +120,143 @@ public class EventManager implements EventListener {
                 continue;
             }
 
-            Class<Event> eventClass = (Class<Event>) firstParam;
+            Class<?> eventClass = firstParam;
 
-            Object instance = JDABootObjectManager.getOrInitialiseObject(method.getDeclaringClass());
+            MethodHandle handle = JDABootObjectManager.bindMethod(method.getDeclaringClass(), method);
+            if (handle == null) {
+                continue;
+            }
+            handle = handle.asType(MethodType.methodType(void.class, GenericEvent.class));
 
-            if (handlers.containsKey(eventClass)) {
-                List<Map.Entry<Method, Object>> list = handlers.get(eventClass);
-                list = new ArrayList<>(list);
-                list.add(Map.entry(method, instance));
-                handlers.put(eventClass, list);
-            } else {
-                handlers.put(eventClass, List.of(Map.entry(method, instance)));
+            EventHandler annotation = method.getAnnotation(EventHandler.class);
+            Predicate<GenericEvent> filter;
+            try {
+                filter = EventFilter.compile(annotation);
+            } catch (IllegalArgumentException e) {
+                log.warn("Found @EventHandler method {}.{} with an invalid filter ({})! Skipping...", method.getDeclaringClass().getName(), method.getName(), e.getMessage());
+                continue;
             }
+
+            handlers.add(new RegisteredEventHandler(eventClass, method, handle, annotation.async(), annotation.ordering(), filter));
             log.info("Registered event handler for {}", eventClass.getName());
         }
 
-        jda.addEventListener(this);
+        handlers = List.copyOf(handlers);
+        connection.addEventListener(this);
+    }
+
+    /**
+     * Returns the event types handled by the valid @EventHandler methods in the component index.
+     * Used to derive the gateway intents before the JDA instance is built.
+     *
+     * @param index The component index of your project.
+     * @return The handled event types.
+     * @since 1.0.0-beta.1
+     */
+    @SuppressWarnings("unchecked")
+    public static Set<Class<? extends GenericEvent>> getHandledEventTypes(JDABootComponentIndex index) {
+        Set<Class<? extends GenericEvent>> eventTypes = new HashSet<>();
+        for (Method method : index.getMethodsAnnotatedWith(EventHandler.class)) {
+            Class<?>[] params = method.getParameterTypes();
+            if (params.length == 1 && Event.class.isAssignableFrom(params[0])) {
+                eventTypes.add((Class<? extends GenericEvent>) params[0]);
+            }
+        }
+        return eventTypes;
+    }
+
+    /**
+     * Returns the GatewayIntents required to receive the specified event types. Handlers of supertypes like
+     * GenericGuildEvent receive all events of their subtypes, so they require the intents of all JDA events that extend
+     * them. Privileged intents are not derived for supertypes, because a single generic handler would otherwise require
+     * intents that have to be enabled in the developer portal. They are logged instead and can be added to the
+     * configured intents.
+     *
+     * @param eventTypes The handled event types.
+     * @return The required GatewayIntents.
+     * @since 1.0.0-beta.1
+     */
+    public static EnumSet<GatewayIntent> getRequiredIntents(Set<Class<? extends GenericEvent>> eventTypes) {
+        EnumSet<GatewayIntent> intents = EnumSet.noneOf(GatewayIntent.class);
+        if (eventTypes.isEmpty()) {
+            return intents;
+        }
+
+        Set<Class<? extends GenericEvent>> jdaEventTypes = new Reflections("net.dv8tion.jda.api.events", Scanners.SubTypes)
+                .getSubTypesOf(GenericEvent.class);
+        for (Class<? extends GenericEvent> eventType : eventTypes) {
+            List<Class<? extends GenericEvent>> subtypes = new ArrayList<>();
+            subtypes.add(eventType);
+            for (Class<? extends GenericEvent> jdaEventType : jdaEventTypes) {
+                if (eventType.isAssignableFrom(jdaEventType)) {
+                    subtypes.add(jdaEventType);
+                }
+            }
+
+            EnumSet<GatewayIntent> required = GatewayIntent.fromEvents(subtypes);
+            if (subtypes.size() == 1) {
+                intents.addAll(required);
+                continue;
+            }
+
+            EnumSet<GatewayIntent> privileged = EnumSet.copyOf(PRIVILEGED_INTENTS);
+            privileged.retainAll(required);
+            required.removeAll(PRIVILEGED_INTENTS);
+            intents.addAll(required);
+            if (!privileged.isEmpty()) {
+                log.warn("Handlers of {} also receive events that require the privileged intents {}, which are not derived. Add them to the intents to receive these events.",
+                        eventType.getSimpleName(), privileged);
+            }
+        }
+        return intents;
+    }
+
+    /**
+     * Returns whether any @EventHandler method in the component index filters by message content,
+     * which requires the MESSAGE_CONTENT intent.
+     *
+     * @param index The component index of your project.
+     * @return True if a handler filters by message content, false otherwise.
+     * @since 1.0.0-beta.1
+     */
+    public static boolean requiresMessageContent(JDABootComponentIndex index) {
+        return index.getMethodsAnnotatedWith(EventHandler.class).stream()
+                .anyMatch(method -> EventFilter.filtersContent(method.getAnnotation(EventHandler.class)));
     }
 
     /**
-     * Handles the specified event. Invokes the corresponding event handlers for the event.
+     * Handles the specified event. Invokes the event handlers of the event class and of all its supertypes
+     * whose filters match the event.
      *
      * @param event The event to handle.
      * @since alpha.4
      */
     @Override
     public void onEvent(@NotNull GenericEvent event) {
-        if (handlers.containsKey(event.getClass())) {
-            for (Map.Entry<Method, Object> entry : handlers.get(event.getClass())) {
-                try {
-                    Object instance = entry.getValue();
-                    Method method = entry.getKey();
-                    boolean async = method.getAnnotation(EventHandler.class).async();
-                    if (async) {
-                        new Thread(() -> {
-                            try {
-                                method.invoke(instance, event);
-                            } catch (IllegalAccessException | InvocationTargetException e) {
-                                log.error("Error while invoking event handler {} in class {}", method.getName(), method.getDeclaringClass().getName(), e);
-                            }
-                        }).start();
-                    } else {
-                        method.invoke(instance, event);
-                    }
-                } catch (Exception e) {
-                    log.error("Error while invoking an event handler", e);
+        for (RegisteredEventHandler handler : dispatchTable.get(event.getClass())) {
+            try {
+                if (handler.filter() != null && !handler.filter().test(event)) {
+                    continue;
+                }
+
+                if (handler.ordering() != EventHandler.Ordering.NONE) {
+                    lanes.execute(EventKeys.orderingKey(event, handler.ordering()), () -> invokeAsync(handler, event));
+                } else if (handler.async()) {
+                    executor.execute(() -> invokeAsync(handler, event));
+                } else {
+                    handler.handle().invokeExact(event);
                 }
+            } catch (Throwable e) {
+                log.error("Error while invoking an event handler", e);
             }
         }
     }
+
+    private void invokeAsync(RegisteredEventHandler handler, GenericEvent event) {
+        try {
+            handler.handle().invokeExact(event);
+        } catch (Throwable e) {
+            log.error("Error while invoking event handler {} in class {}", handler.method().getName(), handler.method().getDeclaringClass().getName(), e);
+        }
+    }
 }
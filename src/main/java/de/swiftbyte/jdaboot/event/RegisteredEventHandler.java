@@ -0,0 +1,24 @@
+package de.swiftbyte.jdaboot.event;
+
+import de.swiftbyte.jdaboot.annotation.EventHandler;
+import net.dv8tion.jda.api.events.GenericEvent;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.function.Predicate;
+
+/**
+ * Holds everything needed to dispatch an event to a method annotated with @EventHandler,
+ * so no reflection is needed when an event is fired.
+ *
+ * @param eventClass The event type the handler accepts.
+ * @param method     The handler method.
+ * @param handle     The bound handle of the handler method, adapted to take a GenericEvent.
+ * @param async      Whether the handler should be executed asynchronously.
+ * @param ordering   The key the events of the handler are ordered by.
+ * @param filter     The compiled filters of the handler, or null if it has none.
+ * @since 1.0.0-beta.1
+ */
+record RegisteredEventHandler(Class<?> eventClass, Method method, MethodHandle handle, boolean async, EventHandler.Ordering ordering, Predicate<GenericEvent> filter) {
+
+}
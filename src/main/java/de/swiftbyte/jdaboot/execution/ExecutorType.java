@@ -0,0 +1,24 @@
+package de.swiftbyte.jdaboot.execution;
+
+/**
+ * The ExecutorType enum defines the kinds of executors JDA-Boot can run work on.
+ *
+ * @since 1.0.0-beta.1
+ */
+public enum ExecutorType {
+
+    /**
+     * Runs every task on its own virtual thread. Requires Java 21 or newer,
+     * on older versions a bounded pool is used instead.
+     *
+     * @since 1.0.0-beta.1
+     */
+    VIRTUAL_THREADS,
+
+    /**
+     * Runs the tasks on a fixed number of platform threads with a bounded queue.
+     *
+     * @since 1.0.0-beta.1
+     */
+    BOUNDED_POOL
+}
@@ -0,0 +1,39 @@
+package de.swiftbyte.jdaboot.execution;
+
+/**
+ * The RejectionPolicy enum defines what happens to a task when an executor has reached its queue limit.
+ *
+ * @since 1.0.0-beta.1
+ */
+public enum RejectionPolicy {
+
+    /**
+     * Runs the task on the thread that submitted it, which slows down the submitter.
+     *
+     * @since 1.0.0-beta.1
+     */
+    CALLER_RUNS,
+
+    /**
+     * Drops the task.
+     *
+     * @since 1.0.0-beta.1
+     */
+    DISCARD,
+
+    /**
+     * Drops the oldest queued task and queues the new one instead.
+     * Executors without a queue drop the new task.
+     *
+     * @since 1.0.0-beta.1
+     */
+    DISCARD_OLDEST,
+
+    /**
+     * Blocks the submitting thread until there is space for the task.
+     * Unlike {@link #CALLER_RUNS}, this keeps the order of the submitted tasks.
+     *
+     * @since 1.0.0-beta.1
+     */
+    BLOCK
+}
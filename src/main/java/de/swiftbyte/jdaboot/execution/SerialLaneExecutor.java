@@ -0,0 +1,127 @@
+package de.swiftbyte.jdaboot.execution;
+
+import lombok.Getter;
+
+/**
+ * The SerialLaneExecutor class runs tasks on a fixed number of serial lanes.
+ * Every task is submitted with a key, and all tasks with the same key run on the same lane in the order they were submitted.
+ * Tasks with different keys are spread across the lanes and run in parallel.
+ * <p>
+ * Each lane is a {@link WorkerExecutor} with a single thread, so the queue limit and rejection policy apply per lane.
+ * As running a task on the submitting thread would overtake the queued tasks of its lane,
+ * {@link RejectionPolicy#CALLER_RUNS} blocks the submitting thread instead.
+ *
+ * @since 1.0.0-beta.1
+ */
+public class SerialLaneExecutor {
+
+    @Getter
+    private final String name;
+
+    private final WorkerExecutor[] lanes;
+
+    /**
+     * Constructor for SerialLaneExecutor. Creates the specified number of lanes.
+     *
+     * @param name            The name of the executor, used for the thread names and log messages.
+     * @param lanes           The number of lanes, or 0 to use the number of available processors.
+     * @param queueSize       The maximum number of pending tasks of all lanes together before the rejection policy is applied.
+     * @param rejectionPolicy The policy that is applied to tasks exceeding the queue size of their lane.
+     * @since 1.0.0-beta.1
+     */
+    public SerialLaneExecutor(String name, int lanes, int queueSize, RejectionPolicy rejectionPolicy) {
+        this.name = name;
+        this.lanes = new WorkerExecutor[lanes > 0 ? lanes : Runtime.getRuntime().availableProcessors()];
+
+        int laneQueueSize = Math.max(1, queueSize / this.lanes.length);
+        RejectionPolicy laneRejectionPolicy = rejectionPolicy == RejectionPolicy.CALLER_RUNS ? RejectionPolicy.BLOCK : rejectionPolicy;
+        for (int i = 0; i < this.lanes.length; i++) {
+            this.lanes[i] = new WorkerExecutor(name + "-lane-" + i, ExecutorType.BOUNDED_POOL, 1, laneQueueSize, laneRejectionPolicy);
+        }
+    }
+
+    /**
+     * Submits the specified task to the lane of the specified key.
+     *
+     * @param key  The key that determines the lane, for example a guild ID.
+     * @param task The task to run.
+     * @since 1.0.0-beta.1
+     */
+    public void execute(long key, Runnable task) {
+        lanes[laneOf(key)].execute(task);
+    }
+
+    /**
+     * Returns the lane index of the specified key.
+     *
+     * @param key The key to look up.
+     * @return The index of the lane the tasks of the key run on.
+     * @since 1.0.0-beta.1
+     */
+    public int laneOf(long key) {
+        return Math.floorMod(Long.hashCode(key * 0x9E3779B97F4A7C15L), lanes.length);
+    }
+
+    /**
+     * Returns the number of lanes.
+     *
+     * @return The number of lanes.
+     * @since 1.0.0-beta.1
+     */
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * Returns the number of tasks waiting for execution on all lanes.
+     *
+     * @return The number of pending tasks.
+     * @since 1.0.0-beta.1
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (WorkerExecutor lane : lanes) {
+            depth += lane.getQueueDepth();
+        }
+        return depth;
+    }
+
+    /**
+     * Returns the number of tasks submitted to all lanes since the executor was created.
+     *
+     * @return The number of submitted tasks.
+     * @since 1.0.0-beta.1
+     */
+    public long getSubmittedCount() {
+        long count = 0;
+        for (WorkerExecutor lane : lanes) {
+            count += lane.getSubmittedCount();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of tasks the rejection policy was applied to on all lanes since the executor was created.
+     *
+     * @return The number of rejected tasks.
+     * @since 1.0.0-beta.1
+     */
+    public long getRejectedCount() {
+        long count = 0;
+        for (WorkerExecutor lane : lanes) {
+            count += lane.getRejectedCount();
+        }
+        return count;
+    }
+
+    /**
+     * Stops accepting new tasks on all lanes. Already submitted tasks are still executed.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public void shutdown() {
+        for (WorkerExecutor lane : lanes) {
+            lane.shutdown();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package de.swiftbyte.jdaboot.execution;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The WorkerExecutor class runs tasks of JDA-Boot outside the JDA event thread.
+ * It either starts a virtual thread per task or uses a bounded pool of platform threads, and applies the configured
+ * {@link RejectionPolicy} once the number of pending tasks reaches the queue size.
+ * <p>
+ * The executor counts submitted, rejected and pending tasks, so the load of the bot can be monitored.
+ *
+ * @since 1.0.0-beta.1
+ */
+@Slf4j
+public class WorkerExecutor implements Executor {
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final ExecutorType type;
+
+    @Getter
+    private final RejectionPolicy rejectionPolicy;
+
+    @Getter
+    private final int queueSize;
+
+    private final ExecutorService virtualThreads;
+
+    private final ThreadPoolExecutor pool;
+
+    private final Semaphore permits;
+
+    private final AtomicLong submitted = new AtomicLong();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * Constructor for WorkerExecutor. Creates the executor with the specified configuration.
+     * If virtual threads are requested but not supported by the running Java version, a bounded pool is created instead.
+     *
+     * @param name            The name of the executor, used for the thread names and log messages.
+     * @param type            The type of the executor.
+     * @param threads         The number of platform threads of a bounded pool, or 0 to use the number of available processors.
+     * @param queueSize       The maximum number of pending tasks before the rejection policy is applied.
+     * @param rejectionPolicy The policy that is applied to tasks exceeding the queue size.
+     * @since 1.0.0-beta.1
+     */
+    public WorkerExecutor(String name, ExecutorType type, int threads, int queueSize, RejectionPolicy rejectionPolicy) {
+        this.name = name;
+        this.queueSize = Math.max(1, queueSize);
+        this.rejectionPolicy = rejectionPolicy;
+
+        ExecutorService virtualThreads = type == ExecutorType.VIRTUAL_THREADS ? createVirtualThreadExecutor() : null;
+        if (type == ExecutorType.VIRTUAL_THREADS && virtualThreads == null) {
+            log.info("Virtual threads are not available on Java {}, using a bounded pool for the {} executor.", Runtime.version().feature(), name);
+        }
+
+        this.virtualThreads = virtualThreads;
+        this.type = virtualThreads != null ? ExecutorType.VIRTUAL_THREADS : ExecutorType.BOUNDED_POOL;
+        this.pool = virtualThreads == null ? createPool(threads) : null;
+        this.permits = new Semaphore(this.queueSize);
+    }
+
+    /**
+     * Submits the specified task. If the queue is full, the rejection policy of the executor is applied.
+     *
+     * @param task The task to run.
+     * @since 1.0.0-beta.1
+     */
+    @Override
+    public void execute(Runnable task) {
+        submitted.incrementAndGet();
+
+        if (pool != null) {
+            pool.execute(task);
+            return;
+        }
+
+        if (!permits.tryAcquire()) {
+            if (rejectionPolicy != RejectionPolicy.BLOCK) {
+                reject(task);
+                return;
+            }
+
+            countRejection();
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        try {
+            virtualThreads.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of tasks waiting for execution. For virtual threads this is the number of running tasks,
+     * as every task gets its own thread.
+     *
+     * @return The number of pending tasks.
+     * @since 1.0.0-beta.1
+     */
+    public int getQueueDepth() {
+        return pool != null ? pool.getQueue().size() : queueSize - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of tasks submitted to this executor since it was created.
+     *
+     * @return The number of submitted tasks.
+     * @since 1.0.0-beta.1
+     */
+    public long getSubmittedCount() {
+        return submitted.get();
+    }
+
+    /**
+     * Returns the number of tasks the rejection policy was applied to since the executor was created.
+     *
+     * @return The number of rejected tasks.
+     * @since 1.0.0-beta.1
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * Stops accepting new tasks. Already submitted tasks are still executed.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        } else {
+            virtualThreads.shutdown();
+        }
+    }
+
+    private void reject(Runnable task) {
+        countRejection();
+        if (rejectionPolicy == RejectionPolicy.CALLER_RUNS) {
+            task.run();
+        }
+    }
+
+    private void countRejection() {
+        long count = rejected.incrementAndGet();
+        if (count == 1 || count % 1000 == 0) {
+            log.warn("The {} executor is saturated ({} pending tasks), applied {} to {} tasks so far.", name, queueSize, rejectionPolicy, count);
+        }
+    }
+
+    private ThreadPoolExecutor createPool(int threads) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "JDABoot-" + name + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        RejectedExecutionHandler rejectionHandler = (task, executor) -> {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("The " + name + " executor has been shut down");
+            }
+
+            if (rejectionPolicy == RejectionPolicy.BLOCK) {
+                countRejection();
+                try {
+                    executor.getQueue().put(task);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return;
+            }
+
+            if (rejectionPolicy == RejectionPolicy.DISCARD_OLDEST) {
+                Runnable oldest = executor.getQueue().poll();
+                if (oldest != null) {
+                    reject(oldest);
+                    executor.execute(task);
+                    return;
+                }
+            }
+            reject(task);
+        };
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), threadFactory, rejectionHandler);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+                    .invoke();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package de.swiftbyte.jdaboot.interaction;
+
+import de.swiftbyte.jdaboot.embed.TemplateEmbed;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+import net.dv8tion.jda.api.interactions.DiscordLocale;
+import net.dv8tion.jda.api.interactions.callbacks.IMessageEditCallback;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+
+import java.util.HashMap;
+
+/**
+ * The ComponentContext class holds a single use of a button, select menu or modal, together with the variables of the
+ * component. Besides replying, it provides helpers to edit the message the component belongs to, which switch to the
+ * hook of the interaction once it is acknowledged, like the reply helpers.
+ *
+ * @param <E> The type of the interaction event.
+ * @since 1.0.0-beta.1
+ */
+public class ComponentContext<E extends GenericInteractionCreateEvent & IReplyCallback & IMessageEditCallback> extends InteractionContext<E> {
+
+    private final HashMap<String, String> variables;
+
+    /**
+     * Constructor for ComponentContext.
+     *
+     * @param event          The event of the invocation.
+     * @param variables      The variables of the component, or null if they could not be resolved.
+     * @param publicDeferral Whether the watchdog defers the interaction with a reply that is visible to everyone.
+     * @since 1.0.0-beta.1
+     */
+    public ComponentContext(E event, HashMap<String, String> variables, boolean publicDeferral) {
+        super(event, publicDeferral);
+        this.variables = variables;
+    }
+
+    /**
+     * Returns the variables of the component.
+     *
+     * @return The variables in a map owned by this invocation, which is empty if the component has no variables,
+     * or null if they could not be resolved.
+     * @since 1.0.0-beta.1
+     */
+    public HashMap<String, String> getVariables() {
+        return variables;
+    }
+
+    /**
+     * Replaces the embeds of the message with the specified embed in the locale of the user.
+     *
+     * @param embed The embed to show.
+     * @since 1.0.0-beta.1
+     */
+    public void edit(TemplateEmbed embed) {
+        edit(embed, getLocale());
+    }
+
+    /**
+     * Replaces the embeds of the message with the specified embed in the specified locale.
+     *
+     * @param embed  The embed to show.
+     * @param locale The locale of the embed.
+     * @since 1.0.0-beta.1
+     */
+    public void edit(TemplateEmbed embed, DiscordLocale locale) {
+        MessageEmbed message = embed.advancedEmbed(locale).build();
+        send(false, () -> getEvent().editMessageEmbeds(message), () -> getEvent().getHook().editOriginalEmbeds(message));
+    }
+
+    /**
+     * Replaces the content of the message with the specified message.
+     *
+     * @param message The new content of the message.
+     * @since 1.0.0-beta.1
+     */
+    public void edit(String message) {
+        send(false, () -> getEvent().editMessage(message), () -> getEvent().getHook().editOriginal(message));
+    }
+
+    /**
+     * Acknowledges the interaction without replying, so the message can be edited later with the edit methods of this
+     * context. Does nothing if the interaction is already acknowledged.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public void deferEdit() {
+        if (!getEvent().isAcknowledged()) {
+            setPublicDeferral(false);
+            getEvent().deferEdit().queue(null, this::ignoreAcknowledged);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package de.swiftbyte.jdaboot.interaction;
+
+import de.swiftbyte.jdaboot.JDABootConnection;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.EntitySelectInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import net.dv8tion.jda.api.interactions.callbacks.IMessageEditCallback;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The ComponentRouter class receives the interactions of buttons, select menus and modals and passes them to the
+ * executor registered for the component. All components are kept in a single table, in which the ID of the component
+ * is looked up directly in the custom ID without splitting it. Only the variable part of the custom ID is copied,
+ * for components that have variables.
+ * <p>
+ * The router counts how often each component was dispatched, and how many interactions did not belong to any component.
+ * <p>
+ * Every dispatched interaction is watched by the {@link InteractionWatchdog}. Buttons and select menus are deferred with
+ * an edit, modals with a reply. The executors receive a {@link ComponentContext}, whose reply and edit methods respond
+ * through the hook once the interaction was deferred.
+ *
+ * @since 1.0.0-beta.1
+ */
+@Slf4j
+public class ComponentRouter extends ListenerAdapter {
+
+    private volatile Route<?>[] table = new Route<?>[64];
+
+    private int size;
+
+    private final LongAdder unrouted = new LongAdder();
+
+    private final InteractionWatchdog watchdog;
+
+    /**
+     * Constructor for ComponentRouter. Registers the router as a listener on the specified connection.
+     *
+     * @param connection The connection to Discord to receive the interactions from.
+     * @param watchdog   The watchdog that defers interactions which are not acknowledged in time.
+     * @since 1.0.0-beta.1
+     */
+    public ComponentRouter(JDABootConnection connection, InteractionWatchdog watchdog) {
+        this(watchdog);
+        connection.addEventListener(this);
+    }
+
+    /**
+     * Constructor for ComponentRouter that does not register the router as a listener.
+     *
+     * @param watchdog The watchdog that defers interactions which are not acknowledged in time.
+     * @since 1.0.0-beta.1
+     */
+    ComponentRouter(InteractionWatchdog watchdog) {
+        this.watchdog = watchdog;
+    }
+
+    /**
+     * Registers the executor of a component.
+     *
+     * @param type     The type of the component.
+     * @param id       The ID of the component definition.
+     * @param executor The executor that is called with the context of the interaction.
+     * @param <E>      The type of the interaction event.
+     * @return true if the component was registered, false if a component of the same type is already registered with the ID.
+     * @since 1.0.0-beta.1
+     */
+    public synchronized <E extends GenericInteractionCreateEvent & IReplyCallback & IMessageEditCallback> boolean register(ComponentType<E> type,
+                                                                                                                      String id, ComponentExecutor<E> executor) {
+        Route<?>[] current = table;
+        if (find(current, type, id, id.length()) != null) {
+            log.error("A {} with the ID '{}' is already registered", type.getName(), id);
+            return false;
+        }
+
+        Route<?>[] next;
+        if ((size + 1) * 2 <= current.length) {
+            next = current.clone();
+        } else {
+            next = new Route<?>[current.length * 2];
+            for (Route<?> route : current) {
+                if (route != null) {
+                    insert(next, route);
+                }
+            }
+        }
+        insert(next, new Route<>(type, id, executor));
+        size++;
+        table = next;
+        return true;
+    }
+
+    /**
+     * Returns how often the component with the specified type and ID was dispatched.
+     *
+     * @param type The type of the component.
+     * @param id   The ID of the component definition.
+     * @return The number of dispatched interactions, or 0 if no such component is registered.
+     * @since 1.0.0-beta.1
+     */
+    public long getDispatchCount(ComponentType<?> type, String id) {
+        Route<?> route = find(table, type, id, id.length());
+        return route == null ? 0 : route.dispatches.sum();
+    }
+
+    /**
+     * Returns how often each component was dispatched, keyed by the type name and ID of the component,
+     * like {@code button:confirm}.
+     *
+     * @return The dispatch counts of all registered components.
+     * @since 1.0.0-beta.1
+     */
+    public Map<String, Long> getDispatchCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Route<?> route : table) {
+            if (route != null) {
+                counts.put(route.type.getName() + ":" + route.id, route.dispatches.sum());
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns how many interactions did not belong to a registered component.
+     *
+     * @return The number of unrouted interactions.
+     * @since 1.0.0-beta.1
+     */
+    public long getUnroutedCount() {
+        return unrouted.sum();
+    }
+
+    @Override
+    public void onButtonInteraction(ButtonInteractionEvent event) {
+        dispatch(ComponentType.BUTTON, event, event.getComponentId());
+    }
+
+    @Override
+    public void onStringSelectInteraction(StringSelectInteractionEvent event) {
+        dispatch(ComponentType.STRING_SELECT_MENU, event, event.getComponentId());
+    }
+
+    @Override
+    public void onEntitySelectInteraction(EntitySelectInteractionEvent event) {
+        dispatch(ComponentType.ENTITY_SELECT_MENU, event, event.getComponentId());
+    }
+
+    @Override
+    public void onModalInteraction(ModalInteractionEvent event) {
+        dispatch(ComponentType.MODAL, event, event.getModalId());
+    }
+
+    /**
+     * Looks up the component of the specified custom ID, lets the watchdog watch the interaction and passes the context
+     * of the interaction to the executor.
+     *
+     * @param type     The type of the component.
+     * @param event    The interaction event.
+     * @param customId The custom ID of the component, in the form {@code componentId;variableId}.
+     * @param <E>      The type of the interaction event.
+     * @since 1.0.0-beta.1
+     */
+    @SuppressWarnings("unchecked")
+    <E extends GenericInteractionCreateEvent & IReplyCallback & IMessageEditCallback> void dispatch(ComponentType<E> type, E event, String customId) {
+        int separator = customId.indexOf(';');
+        int idLength = separator < 0 ? customId.length() : separator;
+
+        Route<E> route = (Route<E>) find(table, type, customId, idLength);
+        if (route == null) {
+            unrouted.increment();
+            return;
+        }
+
+        route.dispatches.increment();
+        HashMap<String, String> variables = separator < 0 || separator == customId.length() - 1
+                ? new HashMap<>()
+                : ComponentVariableTransfer.getVariables(customId.substring(separator + 1));
+        watchdog.watch(type.getName() + ":" + route.id, event, () -> type.replyDeferral ? event.deferReply() : event.deferEdit());
+        route.executor.execute(new ComponentContext<>(event, variables, type.replyDeferral));
+    }
+
+    private static Route<?> find(Route<?>[] table, ComponentType<?> type, String customId, int idLength) {
+        int mask = table.length - 1;
+        for (int slot = hash(type, customId, idLength) & mask; ; slot = (slot + 1) & mask) {
+            Route<?> route = table[slot];
+            if (route == null) {
+                return null;
+            }
+            if (route.type == type && route.id.length() == idLength && customId.startsWith(route.id)) {
+                return route;
+            }
+        }
+    }
+
+    private static void insert(Route<?>[] table, Route<?> route) {
+        int mask = table.length - 1;
+        int slot = hash(route.type, route.id, route.id.length()) & mask;
+        while (table[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = route;
+    }
+
+    private static int hash(ComponentType<?> type, String customId, int idLength) {
+        int hash = type.ordinal;
+        for (int i = 0; i < idLength; i++) {
+            hash = 31 * hash + customId.charAt(i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * The ComponentType class identifies the kind of component an executor is registered for, together with the
+     * interaction event it receives.
+     *
+     * @param <E> The type of the interaction event.
+     * @since 1.0.0-beta.1
+     */
+    public static final class ComponentType<E extends GenericInteractionCreateEvent & IReplyCallback & IMessageEditCallback> {
+
+        public static final ComponentType<ButtonInteractionEvent> BUTTON = new ComponentType<>(0, "button", false);
+
+        public static final ComponentType<StringSelectInteractionEvent> STRING_SELECT_MENU = new ComponentType<>(1, "string select menu", false);
+
+        public static final ComponentType<EntitySelectInteractionEvent> ENTITY_SELECT_MENU = new ComponentType<>(2, "entity select menu", false);
+
+        public static final ComponentType<ModalInteractionEvent> MODAL = new ComponentType<>(3, "modal", true);
+
+        private final int ordinal;
+
+        private final String name;
+
+        private final boolean replyDeferral;
+
+        private ComponentType(int ordinal, String name, boolean replyDeferral) {
+            this.ordinal = ordinal;
+            this.name = name;
+            this.replyDeferral = replyDeferral;
+        }
+
+        /**
+         * Returns the name of the component type, used in log messages and dispatch counts.
+         *
+         * @return The name of the component type.
+         * @since 1.0.0-beta.1
+         */
+        public String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * The ComponentExecutor interface is called by the router when a component is used.
+     *
+     * @param <E> The type of the interaction event.
+     * @since 1.0.0-beta.1
+     */
+    @FunctionalInterface
+    public interface ComponentExecutor<E extends GenericInteractionCreateEvent & IReplyCallback & IMessageEditCallback> {
+
+        /**
+         * Called when the component is used.
+         *
+         * @param context The context of the interaction, with the variables of the component in a map owned by this
+         *                invocation, which is empty if the component has no variables, or null if they could not be resolved.
+         * @since 1.0.0-beta.1
+         */
+        void execute(ComponentContext<E> context);
+    }
+
+    private record Route<E extends GenericInteractionCreateEvent & IReplyCallback & IMessageEditCallback>(ComponentType<E> type, String id,
+                                                                                                       ComponentExecutor<E> executor,
+                                                                                                       LongAdder dispatches) {
+
+        private Route(ComponentType<E> type, String id, ComponentExecutor<E> executor) {
+            this(type, id, executor, new LongAdder());
+        }
+    }
+}
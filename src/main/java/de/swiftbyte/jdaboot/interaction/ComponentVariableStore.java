@@ -0,0 +1,257 @@
+package de.swiftbyte.jdaboot.interaction;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The ComponentVariableStore class holds the variables of buttons, select menus and modals until the component is used.
+ * The store is shared by all component types and is bounded by size and by a time to live, so it does not grow for the
+ * lifetime of the bot. Once it is full, entries are removed according to the configured {@link EvictionPolicy}.
+ * <p>
+ * The store is split into segments with their own lock, chosen by the hash of the variable ID, so components that are
+ * used at the same time rarely wait for each other. Each segment holds an equal share of the maximum size and applies
+ * the eviction policy to its own entries.
+ * <p>
+ * All methods are thread safe. The store counts hits, misses, evictions and expirations, so its size can be tuned.
+ *
+ * @since 1.0.0-beta.1
+ */
+public class ComponentVariableStore {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    @Getter
+    private final int maxSize;
+
+    @Getter
+    private final Duration timeToLive;
+
+    @Getter
+    private final EvictionPolicy evictionPolicy;
+
+    private final Segment[] segments;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final AtomicLong expirations = new AtomicLong();
+
+    /**
+     * Constructor for ComponentVariableStore.
+     *
+     * @param maxSize        The maximum number of stored variable maps.
+     * @param timeToLive     How long a variable map is kept, or a zero duration to keep it until it is evicted.
+     * @param evictionPolicy The policy that decides which variable maps are removed first once the store is full.
+     * @since 1.0.0-beta.1
+     */
+    public ComponentVariableStore(int maxSize, Duration timeToLive, EvictionPolicy evictionPolicy) {
+        this.maxSize = Math.max(1, maxSize);
+        this.timeToLive = timeToLive;
+        this.evictionPolicy = evictionPolicy;
+
+        int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(this.maxSize));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(this.maxSize / segmentCount + (i < this.maxSize % segmentCount ? 1 : 0));
+        }
+    }
+
+    /**
+     * Stores the variables of a component. The map must not be modified afterwards.
+     *
+     * @param id        The variable ID of the component.
+     * @param variables The variables to store.
+     * @since 1.0.0-beta.1
+     */
+    public void put(String id, HashMap<String, String> variables) {
+        long now = System.nanoTime();
+        Entry entry = new Entry(variables, expiresAt(now));
+
+        Segment segment = segmentFor(id);
+        synchronized (segment) {
+            removeExpired(segment, now);
+            segment.put(id, entry);
+        }
+    }
+
+    /**
+     * Retrieves the variables of a component.
+     *
+     * @param id The variable ID of the component.
+     * @return A new map with the stored variables, or null if there are none or they were evicted or expired.
+     * @since 1.0.0-beta.1
+     */
+    public HashMap<String, String> get(String id) {
+        long now = System.nanoTime();
+        Entry entry;
+
+        Segment segment = segmentFor(id);
+        synchronized (segment) {
+            entry = segment.get(id);
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+
+            if (isExpired(entry, now)) {
+                segment.remove(id);
+                expirations.incrementAndGet();
+                misses.incrementAndGet();
+                return null;
+            }
+
+            if (evictionPolicy == EvictionPolicy.LRU) {
+                entry.expiresAt = expiresAt(now);
+            }
+        }
+
+        hits.incrementAndGet();
+        return new HashMap<>(entry.variables);
+    }
+
+    /**
+     * Removes the variables of a component.
+     *
+     * @param id The variable ID of the component.
+     * @since 1.0.0-beta.1
+     */
+    public void remove(String id) {
+        Segment segment = segmentFor(id);
+        synchronized (segment) {
+            segment.remove(id);
+        }
+    }
+
+    /**
+     * Returns the number of stored variable maps, including expired ones that were not removed yet.
+     *
+     * @return The number of stored variable maps.
+     * @since 1.0.0-beta.1
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns how often stored variables were found.
+     *
+     * @return The number of hits.
+     * @since 1.0.0-beta.1
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns how often variables were requested that were not stored, evicted or expired.
+     *
+     * @return The number of misses.
+     * @since 1.0.0-beta.1
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns how many variable maps were removed because the store was full.
+     *
+     * @return The number of evictions.
+     * @since 1.0.0-beta.1
+     */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * Returns how many variable maps were removed because their time to live was over.
+     *
+     * @return The number of expirations.
+     * @since 1.0.0-beta.1
+     */
+    public long getExpirationCount() {
+        return expirations.get();
+    }
+
+    private Segment segmentFor(String id) {
+        int hash = id.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    /**
+     * Removes the expired entries from the head of the segment. As the time to live is reset in access order for LRU
+     * and set in insertion order for FIFO, the head always holds the entries that expire first.
+     *
+     * @param segment The segment to remove the expired entries from.
+     * @param now     The current time in nanoseconds.
+     * @since 1.0.0-beta.1
+     */
+    private void removeExpired(Segment segment, long now) {
+        Iterator<Entry> iterator = segment.values().iterator();
+        while (iterator.hasNext()) {
+            if (!isExpired(iterator.next(), now)) {
+                return;
+            }
+            iterator.remove();
+            expirations.incrementAndGet();
+        }
+    }
+
+    private long expiresAt(long now) {
+        return timeToLive.isZero() ? Long.MAX_VALUE : now + timeToLive.toNanos();
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return entry.expiresAt != Long.MAX_VALUE && now - entry.expiresAt > 0;
+    }
+
+    /**
+     * A part of the store with its own entries, guarded by its own monitor.
+     *
+     * @since 1.0.0-beta.1
+     */
+    private class Segment extends LinkedHashMap<String, Entry> {
+
+        private final int capacity;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, evictionPolicy == EvictionPolicy.LRU);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            if (size() > capacity) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static class Entry {
+
+        private final HashMap<String, String> variables;
+
+        private long expiresAt;
+
+        private Entry(HashMap<String, String> variables, long expiresAt) {
+            this.variables = variables;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
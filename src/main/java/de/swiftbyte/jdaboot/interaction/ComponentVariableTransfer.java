@@ -0,0 +1,231 @@
+package de.swiftbyte.jdaboot.interaction;
+
+import de.swiftbyte.jdaboot.JDABootConfigurationManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The ComponentVariableTransfer class attaches the variables of buttons, select menus and modals to their custom ID
+ * and resolves them again when the component is used.
+ * <p>
+ * The variables are either kept in the {@link ComponentVariableStore} under a random ID, or encoded into the custom ID
+ * itself. Encoded variables start with {@link #INLINE_MARKER}, followed by the base64url encoding of the key and value
+ * pairs, each prefixed with its length in UTF-8 bytes as a varint. If the {@link PersistentComponentVariableStore} is
+ * configured, variables that are not encoded are kept there instead, and their ID starts with {@link #PERSISTENT_MARKER}.
+ *
+ * @since 1.0.0-beta.1
+ */
+@Slf4j
+public final class ComponentVariableTransfer {
+
+    /**
+     * The maximum length of a custom ID allowed by Discord.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public static final int MAX_CUSTOM_ID_LENGTH = 100;
+
+    /**
+     * The character that marks variables encoded into the custom ID.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public static final char INLINE_MARKER = '~';
+
+    /**
+     * The character that marks variables kept in the persistent store.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public static final char PERSISTENT_MARKER = '!';
+
+    private ComponentVariableTransfer() {
+    }
+
+    /**
+     * Creates the custom ID of a component with the specified variables attached.
+     *
+     * @param componentId The ID of the component definition.
+     * @param variables   The variables to attach.
+     * @param mode        The transfer mode of the component. {@link VariableTransferMode#DEFAULT} uses the configured mode.
+     * @return The custom ID of the component in the form {@code componentId;variableId}.
+     * @since 1.0.0-beta.1
+     */
+    public static String createComponentId(String componentId, HashMap<String, String> variables, VariableTransferMode mode) {
+        if (mode == VariableTransferMode.DEFAULT) {
+            mode = JDABootConfigurationManager.getComponentVariableTransferMode();
+        }
+
+        if (mode == VariableTransferMode.INLINE) {
+            String customId = componentId + ";" + encode(variables);
+            if (customId.length() <= MAX_CUSTOM_ID_LENGTH) {
+                return customId;
+            }
+            log.debug("Variables of component {} do not fit into the custom ID, keeping them in the store", componentId);
+        }
+
+        PersistentComponentVariableStore persistentStore = JDABootConfigurationManager.getPersistentComponentVariableStore();
+        if (persistentStore != null && mode != VariableTransferMode.STORE) {
+            UUID variableId = UUID.randomUUID();
+            try {
+                persistentStore.put(variableId, variables);
+                return componentId + ";" + PERSISTENT_MARKER + variableId;
+            } catch (IOException e) {
+                log.error("Failed to persist the variables of component {}, keeping them in memory", componentId, e);
+            }
+        }
+
+        String variableId = UUID.randomUUID().toString();
+        JDABootConfigurationManager.getComponentVariableStore().put(variableId, new HashMap<>(variables));
+        return componentId + ";" + variableId;
+    }
+
+    /**
+     * Resolves the variables attached to a custom ID.
+     *
+     * @param variableId The part of the custom ID after the separator.
+     * @return The variables, or null if they could not be resolved.
+     * @since 1.0.0-beta.1
+     */
+    public static HashMap<String, String> getVariables(String variableId) {
+        if (!variableId.isEmpty() && variableId.charAt(0) == INLINE_MARKER) {
+            try {
+                return decode(variableId);
+            } catch (IllegalArgumentException e) {
+                log.warn("Failed to decode the variables '{}' of a component: {}", variableId, e.getMessage());
+                return null;
+            }
+        }
+        if (!variableId.isEmpty() && variableId.charAt(0) == PERSISTENT_MARKER) {
+            return getPersistentVariables(variableId);
+        }
+        return JDABootConfigurationManager.getComponentVariableStore().get(variableId);
+    }
+
+    /**
+     * Reads variables kept in the persistent store.
+     *
+     * @param variableId The part of the custom ID after the separator, starting with {@link #PERSISTENT_MARKER}.
+     * @return The variables, or null if they could not be resolved.
+     * @since 1.0.0-beta.1
+     */
+    private static HashMap<String, String> getPersistentVariables(String variableId) {
+        PersistentComponentVariableStore persistentStore = JDABootConfigurationManager.getPersistentComponentVariableStore();
+        if (persistentStore == null) {
+            log.warn("Component variables '{}' are persistent, but no persistent store is configured", variableId);
+            return null;
+        }
+
+        try {
+            return persistentStore.get(UUID.fromString(variableId.substring(1)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Failed to read the persistent variables '{}' of a component: {}", variableId, e.getMessage());
+        } catch (IOException e) {
+            log.error("Failed to read the persistent variables '{}' of a component", variableId, e);
+        }
+        return null;
+    }
+
+    /**
+     * Encodes the specified variables.
+     *
+     * @param variables The variables to encode.
+     * @return The encoded variables, starting with {@link #INLINE_MARKER}.
+     * @since 1.0.0-beta.1
+     */
+    public static String encode(Map<String, String> variables) {
+        return INLINE_MARKER + Base64.getUrlEncoder().withoutPadding().encodeToString(toBytes(variables));
+    }
+
+    /**
+     * Decodes variables created by {@link #encode(Map)}.
+     *
+     * @param encoded The encoded variables, starting with {@link #INLINE_MARKER}.
+     * @return The decoded variables.
+     * @throws IllegalArgumentException If the encoded variables are malformed.
+     * @since 1.0.0-beta.1
+     */
+    public static HashMap<String, String> decode(String encoded) {
+        if (encoded.isEmpty() || encoded.charAt(0) != INLINE_MARKER) {
+            throw new IllegalArgumentException("Encoded variables must start with " + INLINE_MARKER);
+        }
+
+        return fromBytes(ByteBuffer.wrap(Base64.getUrlDecoder().decode(encoded.substring(1))));
+    }
+
+    /**
+     * Serializes the specified variables into the binary form used by the inline encoding and the persistent store.
+     *
+     * @param variables The variables to serialize.
+     * @return The serialized variables.
+     * @since 1.0.0-beta.1
+     */
+    static byte[] toBytes(Map<String, String> variables) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Map.Entry<String, String> entry : variables.entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Deserializes variables created by {@link #toBytes(Map)}. Reads all remaining bytes of the buffer.
+     *
+     * @param buffer The buffer to read from.
+     * @return The deserialized variables.
+     * @throws IllegalArgumentException If the data is malformed.
+     * @since 1.0.0-beta.1
+     */
+    static HashMap<String, String> fromBytes(ByteBuffer buffer) {
+        HashMap<String, String> variables = new HashMap<>();
+        while (buffer.hasRemaining()) {
+            String key = readString(buffer);
+            if (!buffer.hasRemaining()) {
+                throw new IllegalArgumentException("Variable '" + key + "' has no value");
+            }
+            variables.put(key, readString(buffer));
+        }
+        return variables;
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = bytes.length;
+        while ((length & ~0x7F) != 0) {
+            out.write((length & 0x7F) | 0x80);
+            length >>>= 7;
+        }
+        out.write(length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (!buffer.hasRemaining() || shift > 28) {
+                throw new IllegalArgumentException("Malformed length");
+            }
+            byte next = buffer.get();
+            length |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                break;
+            }
+        }
+
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Length " + length + " exceeds the encoded data");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
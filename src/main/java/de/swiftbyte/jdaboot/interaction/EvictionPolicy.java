@@ -0,0 +1,24 @@
+package de.swiftbyte.jdaboot.interaction;
+
+/**
+ * The EvictionPolicy enum defines which entries the {@link ComponentVariableStore} removes first once it is full,
+ * and how the time to live of an entry is measured.
+ *
+ * @since 1.0.0-beta.1
+ */
+public enum EvictionPolicy {
+
+    /**
+     * Removes the least recently used entries first. Reading an entry resets its time to live.
+     *
+     * @since 1.0.0-beta.1
+     */
+    LRU,
+
+    /**
+     * Removes the oldest entries first. The time to live of an entry starts when it is stored.
+     *
+     * @since 1.0.0-beta.1
+     */
+    FIFO
+}
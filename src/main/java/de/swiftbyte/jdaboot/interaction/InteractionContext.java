@@ -0,0 +1,247 @@
+package de.swiftbyte.jdaboot.interaction;
+
+import de.swiftbyte.jdaboot.embed.TemplateEmbed;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+import net.dv8tion.jda.api.interactions.DiscordLocale;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+import net.dv8tion.jda.api.requests.RestAction;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+
+import java.util.function.Supplier;
+
+/**
+ * The InteractionContext class holds a single invocation of an interaction handler and provides helpers to reply to it.
+ * A new context is created for every invocation, so a handler can be invoked several times at once without the
+ * invocations affecting each other.
+ * <p>
+ * Once the interaction is acknowledged, for example by the {@link InteractionWatchdog}, the reply helpers respond through
+ * the hook of the interaction instead.
+ *
+ * @param <E> The type of the interaction event.
+ * @since 1.0.0-beta.1
+ */
+@Slf4j
+public class InteractionContext<E extends GenericInteractionCreateEvent & IReplyCallback> {
+
+    /**
+     * The event of the invocation.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private final E event;
+
+    private volatile boolean publicDeferral;
+
+    private volatile boolean replied;
+
+    private volatile boolean followedUp;
+
+    /**
+     * Constructor for InteractionContext.
+     *
+     * @param event          The event of the invocation.
+     * @param publicDeferral Whether the watchdog defers the interaction with a reply that is visible to everyone.
+     * @since 1.0.0-beta.1
+     */
+    public InteractionContext(E event, boolean publicDeferral) {
+        this.event = event;
+        this.publicDeferral = publicDeferral;
+    }
+
+    /**
+     * Returns the user who invoked the interaction.
+     *
+     * @return The user who invoked the interaction.
+     * @since 1.0.0-beta.1
+     */
+    public User getUser() {
+        return event.getUser();
+    }
+
+    /**
+     * Returns the member who invoked the interaction.
+     *
+     * @return The member who invoked the interaction, or null if it was not invoked in a guild.
+     * @since 1.0.0-beta.1
+     */
+    public Member getMember() {
+        return event.getMember();
+    }
+
+    /**
+     * Returns the guild in which the interaction was invoked.
+     *
+     * @return The guild, or null if the interaction was not invoked in a guild.
+     * @since 1.0.0-beta.1
+     */
+    public Guild getGuild() {
+        return event.getGuild();
+    }
+
+    /**
+     * Returns the locale of the user who invoked the interaction.
+     *
+     * @return The locale of the user.
+     * @since 1.0.0-beta.1
+     */
+    public DiscordLocale getLocale() {
+        return event.getUserLocale();
+    }
+
+    /**
+     * Replies with the specified embed in the locale of the user.
+     *
+     * @param embed The embed to reply with.
+     * @since 1.0.0-beta.1
+     */
+    public void reply(TemplateEmbed embed) {
+        reply(embed, getLocale());
+    }
+
+    /**
+     * Replies with the specified embed in the specified locale.
+     *
+     * @param embed  The embed to reply with.
+     * @param locale The locale of the embed.
+     * @since 1.0.0-beta.1
+     */
+    public void reply(TemplateEmbed embed, DiscordLocale locale) {
+        MessageEmbed message = embed.advancedEmbed(locale).build();
+        send(false, () -> event.replyEmbeds(message), () -> event.getHook().sendMessageEmbeds(message));
+    }
+
+    /**
+     * Replies with the specified message.
+     *
+     * @param message The message to reply with.
+     * @since 1.0.0-beta.1
+     */
+    public void reply(String message) {
+        send(false, () -> event.reply(message), () -> event.getHook().sendMessage(message));
+    }
+
+    /**
+     * Replies with the specified message, which can contain embeds and components.
+     *
+     * @param message The message to reply with.
+     * @since 1.0.0-beta.1
+     */
+    public void reply(MessageCreateData message) {
+        send(false, () -> event.reply(message), () -> event.getHook().sendMessage(message));
+    }
+
+    /**
+     * Replies with the specified embed in the locale of the user, visible only to the user.
+     *
+     * @param embed The embed to reply with.
+     * @since 1.0.0-beta.1
+     */
+    public void replyEphemeral(TemplateEmbed embed) {
+        replyEphemeral(embed, getLocale());
+    }
+
+    /**
+     * Replies with the specified embed in the specified locale, visible only to the user.
+     * If the interaction was deferred with a public reply, Discord shows this reply publicly in its place,
+     * which is logged as a warning.
+     *
+     * @param embed  The embed to reply with.
+     * @param locale The locale of the embed.
+     * @since 1.0.0-beta.1
+     */
+    public void replyEphemeral(TemplateEmbed embed, DiscordLocale locale) {
+        MessageEmbed message = embed.advancedEmbed(locale).build();
+        send(true, () -> event.replyEmbeds(message).setEphemeral(true), () -> event.getHook().sendMessageEmbeds(message).setEphemeral(true));
+    }
+
+    /**
+     * Replies with the specified message, visible only to the user.
+     * If the interaction was deferred with a public reply, Discord shows this reply publicly in its place,
+     * which is logged as a warning.
+     *
+     * @param message The message to reply with.
+     * @since 1.0.0-beta.1
+     */
+    public void replyEphemeral(String message) {
+        send(true, () -> event.reply(message).setEphemeral(true), () -> event.getHook().sendMessage(message).setEphemeral(true));
+    }
+
+    /**
+     * Acknowledges the interaction, so the reply can be sent later with the reply methods of this context.
+     * Use this for handlers that take longer than three seconds. Does nothing if the interaction is already acknowledged.
+     *
+     * @param ephemeral Whether the reply is only visible to the user.
+     * @since 1.0.0-beta.1
+     */
+    public void deferReply(boolean ephemeral) {
+        if (!event.isAcknowledged()) {
+            setPublicDeferral(!ephemeral);
+            event.deferReply(ephemeral).queue(null, this::ignoreAcknowledged);
+        }
+    }
+
+    /**
+     * Sets whether the interaction is, or will be, deferred with a reply that is visible to everyone.
+     * The first follow-up after such a deferral takes the place of the deferred reply and is shown publicly.
+     *
+     * @param publicDeferral Whether the deferral is a public reply.
+     * @since 1.0.0-beta.1
+     */
+    protected void setPublicDeferral(boolean publicDeferral) {
+        this.publicDeferral = publicDeferral;
+    }
+
+    /**
+     * Sends a response, or the follow-up through the hook if the interaction was already acknowledged.
+     *
+     * @param ephemeral Whether the response is meant to be visible only to the user.
+     * @param response  Creates the response.
+     * @param followUp  Creates the follow-up through the hook.
+     * @since 1.0.0-beta.1
+     */
+    protected void send(boolean ephemeral, Supplier<? extends RestAction<?>> response, Supplier<? extends RestAction<?>> followUp) {
+        if (event.isAcknowledged()) {
+            followUp(ephemeral, followUp);
+            return;
+        }
+
+        replied = true;
+        response.get().queue(null, failure -> {
+            if (failure instanceof IllegalStateException && event.isAcknowledged()) {
+                replied = false;
+                followUp(ephemeral, followUp);
+            } else {
+                RestAction.getDefaultFailure().accept(failure);
+            }
+        });
+    }
+
+    /**
+     * Ignores the failure of an acknowledgement if the interaction was acknowledged in the meantime.
+     *
+     * @param failure The failure of the acknowledgement.
+     * @since 1.0.0-beta.1
+     */
+    protected void ignoreAcknowledged(Throwable failure) {
+        if (!(failure instanceof IllegalStateException)) {
+            RestAction.getDefaultFailure().accept(failure);
+        }
+    }
+
+    private void followUp(boolean ephemeral, Supplier<? extends RestAction<?>> followUp) {
+        boolean first = !followedUp;
+        followedUp = true;
+        if (ephemeral && first && !replied && publicDeferral) {
+            log.warn("The ephemeral reply to interaction {} is shown publicly, because the interaction was deferred with a public reply",
+                    event.getId());
+        }
+        followUp.get().queue();
+    }
+}
@@ -0,0 +1,132 @@
+package de.swiftbyte.jdaboot.interaction;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.interactions.callbacks.IDeferrableCallback;
+import net.dv8tion.jda.api.requests.RestAction;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * The InteractionWatchdog class acknowledges interactions whose handler did not acknowledge them in time.
+ * Discord only accepts a reply within three seconds, so once the configured threshold has passed, the watchdog
+ * defers the interaction. The handler can still respond afterwards through the hook of the interaction,
+ * which the reply helpers of {@link InteractionContext} and its subclasses do automatically.
+ * <p>
+ * The watchdog counts how often it had to defer the interactions of each handler.
+ *
+ * @since 1.0.0-beta.1
+ */
+@Slf4j
+public class InteractionWatchdog {
+
+    @Getter
+    private final Duration threshold;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<String, LongAdder> deferrals = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for InteractionWatchdog.
+     *
+     * @param threshold How long a handler may take to acknowledge an interaction, or a zero duration to disable the watchdog.
+     * @since 1.0.0-beta.1
+     */
+    public InteractionWatchdog(Duration threshold) {
+        this.threshold = threshold;
+
+        if (isEnabled()) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "JDABoot-defer-watchdog");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Returns whether the watchdog defers interactions.
+     *
+     * @return true if a threshold is configured.
+     * @since 1.0.0-beta.1
+     */
+    public boolean isEnabled() {
+        return !threshold.isZero() && !threshold.isNegative();
+    }
+
+    /**
+     * Watches the specified interaction and defers it if it is not acknowledged within the threshold.
+     *
+     * @param handler     The name of the handler, used for the deferral counts.
+     * @param interaction The interaction to watch.
+     * @param deferral    Creates the action that defers the interaction, like {@code event::deferReply}.
+     * @since 1.0.0-beta.1
+     */
+    public void watch(String handler, IDeferrableCallback interaction, Supplier<? extends RestAction<?>> deferral) {
+        if (scheduler == null) {
+            return;
+        }
+
+        scheduler.schedule(() -> {
+            if (interaction.isAcknowledged()) {
+                return;
+            }
+
+            deferral.get().queue(success -> {
+                deferrals.computeIfAbsent(handler, key -> new LongAdder()).increment();
+                log.debug("Deferred an interaction of {} after {} ms", handler, threshold.toMillis());
+            }, failure -> {
+                // The handler acknowledged the interaction in the meantime.
+                if (!(failure instanceof IllegalStateException)) {
+                    log.warn("Failed to defer an interaction of {}", handler, failure);
+                }
+            });
+        }, threshold.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns how often the watchdog deferred an interaction of the specified handler.
+     *
+     * @param handler The name of the handler.
+     * @return The number of deferred interactions.
+     * @since 1.0.0-beta.1
+     */
+    public long getDeferralCount(String handler) {
+        LongAdder count = deferrals.get(handler);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Returns how often the watchdog deferred the interactions of each handler.
+     *
+     * @return The deferral counts of all handlers whose interactions were deferred at least once.
+     * @since 1.0.0-beta.1
+     */
+    public Map<String, Long> getDeferralCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        deferrals.forEach((handler, count) -> counts.put(handler, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Stops the watchdog.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,790 @@
+package de.swiftbyte.jdaboot.interaction;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The PersistentComponentVariableStore class keeps the variables of buttons, select menus and modals on disk,
+ * so components keep working after a restart of the bot and the variables do not occupy the heap.
+ * <p>
+ * The variables are appended to a log file. A memory-mapped open addressing hash table maps the ID of a variable map to
+ * its position in the log. Both files carry a generation, so an index that does not belong to the log is rebuilt on
+ * startup, and records appended after the index was last written are replayed. The log is compacted periodically,
+ * which drops replaced and expired variable maps.
+ * <p>
+ * Compacting the log and growing the index write new files next to the current ones. A small manifest names the log
+ * and index in use, and replacing the manifest is the only step that switches the store to the new files, so the bot
+ * can stop at any point without leaving a log and an index that do not belong together. Files that are not named by
+ * the manifest are deleted when the store is opened.
+ * <p>
+ * All methods are thread safe.
+ *
+ * @since 1.0.0-beta.1
+ */
+@Slf4j
+public class PersistentComponentVariableStore implements Closeable {
+
+    private static final int LOG_MAGIC = 0x4A42564C;
+    private static final int INDEX_MAGIC = 0x4A425649;
+    private static final int MANIFEST_MAGIC = 0x4A42564D;
+
+    private static final int MANIFEST_SIZE = 20;
+    private static final int LOG_HEADER_SIZE = 12;
+    private static final int RECORD_HEADER_SIZE = 28;
+
+    private static final int INDEX_HEADER_SIZE = 32;
+    private static final int SLOT_SIZE = 24;
+    private static final int INITIAL_CAPACITY = 1 << 16;
+
+    private static final int MAX_RECORD_SIZE = 16 * 1024 * 1024;
+
+    private static final Object UNSAFE;
+
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Mapped index files cannot be unmapped explicitly, they are unmapped by the garbage collector", e);
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    @Getter
+    private final Path directory;
+
+    @Getter
+    private final Duration timeToLive;
+
+    private final Path manifestFile;
+
+    private final ScheduledExecutorService compactionScheduler;
+
+    private final Object compactionLock = new Object();
+
+    private FileChannel logChannel;
+
+    private long generation;
+
+    private long indexId;
+
+    private long logLength;
+
+    private MappedByteBuffer index;
+
+    private int capacity;
+
+    private int size;
+
+    private boolean closed;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong expirations = new AtomicLong();
+
+    private final AtomicLong compactions = new AtomicLong();
+
+    /**
+     * Constructor for PersistentComponentVariableStore. Opens the store in the specified directory and recovers the
+     * index from the log if necessary.
+     *
+     * @param directory          The directory of the store.
+     * @param timeToLive         How long a variable map is kept, or a zero duration to keep it forever.
+     * @param compactionInterval The interval in which the log is compacted, or a zero duration to disable compaction.
+     * @throws IOException If the store could not be opened.
+     * @since 1.0.0-beta.1
+     */
+    public PersistentComponentVariableStore(Path directory, Duration timeToLive, Duration compactionInterval) throws IOException {
+        this.directory = directory;
+        this.timeToLive = timeToLive;
+        this.manifestFile = directory.resolve("variables.manifest");
+
+        Files.createDirectories(directory);
+        open();
+
+        if (compactionInterval.isZero() || compactionInterval.isNegative()) {
+            compactionScheduler = null;
+        } else {
+            compactionScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "JDABoot-variable-compaction");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = compactionInterval.toMillis();
+            compactionScheduler.scheduleWithFixedDelay(() -> {
+                try {
+                    compact();
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Failed to compact the component variable store", e);
+                }
+            }, interval, interval, TimeUnit.MILLISECONDS);
+        }
+
+        log.info("Opened the persistent component variable store in {} with {} variable maps", directory, size);
+    }
+
+    /**
+     * Stores the specified variables under the specified ID. Variables that are already stored under the ID are replaced.
+     *
+     * @param id        The ID of the variables.
+     * @param variables The variables to store.
+     * @throws IOException If the variables could not be written.
+     * @since 1.0.0-beta.1
+     */
+    public synchronized void put(UUID id, Map<String, String> variables) throws IOException {
+        ensureOpen();
+
+        byte[] payload = ComponentVariableTransfer.toBytes(variables);
+        if (payload.length > MAX_RECORD_SIZE) {
+            throw new IOException("The variables are larger than " + MAX_RECORD_SIZE + " bytes");
+        }
+        long expiresAt = timeToLive.isZero() ? 0 : System.currentTimeMillis() + timeToLive.toMillis();
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length);
+        record.putInt(payload.length)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .putLong(expiresAt)
+                .put(payload)
+                .flip();
+        writeFully(logChannel, record, logLength);
+
+        insert(id.getMostSignificantBits(), id.getLeastSignificantBits(), logLength);
+        logLength += record.capacity();
+        index.putLong(24, logLength);
+    }
+
+    /**
+     * Returns the variables stored under the specified ID.
+     *
+     * @param id The ID of the variables.
+     * @return A new map with the variables, or null if no variables are stored under the ID or they expired.
+     * @throws IOException If the variables could not be read.
+     * @since 1.0.0-beta.1
+     */
+    public synchronized HashMap<String, String> get(UUID id) throws IOException {
+        ensureOpen();
+
+        int slot = findSlot(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        long position = index.getLong(slotOffset(slot) + 16) - 1;
+        if (position < 0) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        int length = readRecordHeader(logChannel, header, position, logLength);
+        if (header.getLong(4) != id.getMostSignificantBits() || header.getLong(12) != id.getLeastSignificantBits()) {
+            throw new IOException("The index of the component variable store points to a record of another ID at position " + position);
+        }
+        long expiresAt = header.getLong(20);
+        if (isExpired(expiresAt, System.currentTimeMillis())) {
+            expirations.incrementAndGet();
+            misses.incrementAndGet();
+            return null;
+        }
+
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(logChannel, payload, position + RECORD_HEADER_SIZE);
+        hits.incrementAndGet();
+        return ComponentVariableTransfer.fromBytes(payload.flip());
+    }
+
+    /**
+     * Rewrites the log with only the variable maps that are neither replaced nor expired, and rebuilds the index.
+     * The live records are copied without holding the lock of the store, so it keeps serving requests while compacting.
+     * Records that were appended in the meantime are copied afterwards, and the store switches to the new files by
+     * replacing the manifest. If compacting fails, the store keeps using the current files.
+     *
+     * @throws IOException If the log could not be compacted.
+     * @since 1.0.0-beta.1
+     */
+    public void compact() throws IOException {
+        synchronized (compactionLock) {
+            FileChannel source;
+            ByteBuffer slots;
+            long snapshotLength;
+            int snapshotSize;
+
+            synchronized (this) {
+                ensureOpen();
+                source = logChannel;
+                snapshotLength = logLength;
+                snapshotSize = size;
+                slots = ByteBuffer.allocate(capacity * SLOT_SIZE);
+                slots.put(index.duplicate().position(INDEX_HEADER_SIZE).limit(slotOffset(capacity))).flip();
+            }
+
+            long now = System.currentTimeMillis();
+            long newGeneration = ThreadLocalRandom.current().nextLong();
+            long newIndexId = ThreadLocalRandom.current().nextLong();
+            int newCapacity = capacityFor(snapshotSize);
+            long newLength = LOG_HEADER_SIZE;
+            int live = 0;
+
+            FileChannel target = null;
+            MappedByteBuffer newIndex = null;
+            boolean switched = false;
+            try {
+                target = FileChannel.open(logFile(newGeneration), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE);
+                writeFully(target, ByteBuffer.allocate(LOG_HEADER_SIZE).putInt(LOG_MAGIC).putLong(newGeneration).flip(), 0);
+                newIndex = createIndex(indexFile(newIndexId), newCapacity, newGeneration);
+
+                ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+                for (int offset = 0; offset < slots.limit(); offset += SLOT_SIZE) {
+                    long position = slots.getLong(offset + 16) - 1;
+                    if (position < 0) {
+                        continue;
+                    }
+
+                    int length = readRecordHeader(source, header, position, snapshotLength);
+                    if (isExpired(header.getLong(20), now)) {
+                        continue;
+                    }
+
+                    ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + length);
+                    readFully(source, record, position);
+                    writeFully(target, record.flip(), newLength);
+
+                    insert(newIndex, newCapacity, header.getLong(4), header.getLong(12), newLength);
+                    newLength += record.capacity();
+                    live++;
+                }
+
+                synchronized (this) {
+                    ensureOpen();
+
+                    // Records appended while copying are copied as they are and indexed by the replay after the switch.
+                    long tailPosition = snapshotLength;
+                    while (tailPosition < logLength) {
+                        tailPosition += source.transferTo(tailPosition, logLength - tailPosition,
+                                target.position(newLength + tailPosition - snapshotLength));
+                    }
+
+                    newIndex.putInt(8, live);
+                    newIndex.putLong(24, newLength);
+                    target.force(true);
+                    newIndex.force();
+                    writeManifest(newGeneration, newIndexId);
+                    switched = true;
+
+                    long oldLength = logLength;
+                    long oldGeneration = generation;
+                    long oldIndexId = indexId;
+                    MappedByteBuffer oldIndex = index;
+
+                    logChannel = target;
+                    generation = newGeneration;
+                    index = newIndex;
+                    indexId = newIndexId;
+                    capacity = newCapacity;
+                    size = live;
+                    replay(newLength);
+
+                    source.close();
+                    unmap(oldIndex);
+                    deleteQuietly(logFile(oldGeneration));
+                    deleteQuietly(indexFile(oldIndexId));
+
+                    compactions.incrementAndGet();
+                    log.debug("Compacted the component variable store from {} to {} bytes, {} variable maps remain", oldLength, logLength, size);
+                }
+            } finally {
+                if (!switched) {
+                    if (target != null) {
+                        target.close();
+                    }
+                    if (newIndex != null) {
+                        unmap(newIndex);
+                    }
+                    deleteQuietly(logFile(newGeneration));
+                    deleteQuietly(indexFile(newIndexId));
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the compaction and closes the files of the store.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (compactionScheduler != null) {
+            compactionScheduler.shutdownNow();
+        }
+        index.force();
+        logChannel.close();
+        unmap(index);
+    }
+
+    /**
+     * Returns the number of variable maps in the index, including expired ones that were not compacted yet.
+     *
+     * @return The number of stored variable maps.
+     * @since 1.0.0-beta.1
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns the size of the log in bytes.
+     *
+     * @return The size of the log.
+     * @since 1.0.0-beta.1
+     */
+    public synchronized long getLogSize() {
+        return logLength;
+    }
+
+    /**
+     * Returns how often variables were found in the store.
+     *
+     * @return The number of hits.
+     * @since 1.0.0-beta.1
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns how often variables were not found in the store, including expired ones.
+     *
+     * @return The number of misses.
+     * @since 1.0.0-beta.1
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns how often variables were requested after they expired.
+     *
+     * @return The number of expirations.
+     * @since 1.0.0-beta.1
+     */
+    public long getExpirationCount() {
+        return expirations.get();
+    }
+
+    /**
+     * Returns how often the log was compacted.
+     *
+     * @return The number of compactions.
+     * @since 1.0.0-beta.1
+     */
+    public long getCompactionCount() {
+        return compactions.get();
+    }
+
+    /**
+     * Reads the manifest and opens the log and the index it names. If there is no manifest yet, a new log and index
+     * are created. Files of earlier generations, which were left behind by an interrupted compaction or could not be
+     * deleted, are deleted afterwards.
+     *
+     * @throws IOException If the store could not be opened.
+     * @since 1.0.0-beta.1
+     */
+    private void open() throws IOException {
+        boolean created = Files.notExists(manifestFile);
+        if (created) {
+            generation = ThreadLocalRandom.current().nextLong();
+            indexId = ThreadLocalRandom.current().nextLong();
+        } else {
+            ByteBuffer manifest = ByteBuffer.allocate(MANIFEST_SIZE);
+            try (FileChannel channel = FileChannel.open(manifestFile, StandardOpenOption.READ)) {
+                readFully(channel, manifest, 0);
+            }
+            if (manifest.getInt(0) != MANIFEST_MAGIC) {
+                throw new IOException(manifestFile + " is not a component variable manifest");
+            }
+            generation = manifest.getLong(4);
+            indexId = manifest.getLong(12);
+        }
+
+        openLog();
+        openIndex();
+        if (created) {
+            writeManifest(generation, indexId);
+        }
+        deleteUnusedFiles();
+    }
+
+    /**
+     * Opens the log of the current generation, or writes a new header if the log is empty.
+     *
+     * @throws IOException If the log could not be opened or belongs to a different format.
+     * @since 1.0.0-beta.1
+     */
+    private void openLog() throws IOException {
+        Path logFile = logFile(generation);
+        logChannel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        if (logChannel.size() < LOG_HEADER_SIZE) {
+            logChannel.truncate(0);
+            writeFully(logChannel, ByteBuffer.allocate(LOG_HEADER_SIZE).putInt(LOG_MAGIC).putLong(generation).flip(), 0);
+        } else {
+            ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_SIZE);
+            readFully(logChannel, header, 0);
+            if (header.getInt(0) != LOG_MAGIC || header.getLong(4) != generation) {
+                logChannel.close();
+                throw new IOException(logFile + " is not the component variable log named by the manifest");
+            }
+        }
+        logLength = logChannel.size();
+    }
+
+    /**
+     * Maps the index, rebuilding it if it does not belong to the log, and replays records that are not indexed yet.
+     *
+     * @throws IOException If the index could not be opened.
+     * @since 1.0.0-beta.1
+     */
+    private void openIndex() throws IOException {
+        Path indexFile = indexFile(indexId);
+        long indexedLength = -1;
+        boolean existed = Files.exists(indexFile);
+
+        try (FileChannel indexChannel = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (indexChannel.size() >= INDEX_HEADER_SIZE) {
+                MappedByteBuffer existing = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, indexChannel.size());
+                int existingCapacity = existing.getInt(4);
+                if (existing.getInt(0) == INDEX_MAGIC && existing.getLong(16) == generation
+                        && Integer.bitCount(existingCapacity) == 1
+                        && indexChannel.size() == INDEX_HEADER_SIZE + (long) existingCapacity * SLOT_SIZE
+                        && existing.getLong(24) <= logLength) {
+                    index = existing;
+                    capacity = existingCapacity;
+                    size = existing.getInt(8);
+                    indexedLength = existing.getLong(24);
+                } else {
+                    unmap(existing);
+                }
+            }
+        }
+
+        if (index == null) {
+            if (existed || logLength > LOG_HEADER_SIZE) {
+                log.info("Rebuilding the index of the component variable store in {}", directory);
+            }
+            capacity = INITIAL_CAPACITY;
+            size = 0;
+            index = createIndex(indexFile, capacity, generation);
+            indexedLength = LOG_HEADER_SIZE;
+        }
+
+        replay(indexedLength);
+    }
+
+    /**
+     * Adds the records of the log starting at the specified position to the index. A record that was only partially
+     * written, because the bot stopped while writing it, is cut off.
+     *
+     * @param position The position of the first record that is not indexed.
+     * @throws IOException If the log could not be read.
+     * @since 1.0.0-beta.1
+     */
+    private void replay(long position) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        long end = logChannel.size();
+
+        while (position < end) {
+            int length = -1;
+            if (end - position >= RECORD_HEADER_SIZE) {
+                header.clear();
+                readFully(logChannel, header, position);
+                length = header.getInt(0);
+            }
+            if (length < 0 || length > MAX_RECORD_SIZE || position + RECORD_HEADER_SIZE + length > end) {
+                log.warn("Discarding {} bytes of an incomplete record at the end of {}", end - position, logFile(generation));
+                logChannel.truncate(position);
+                break;
+            }
+
+            insert(header.getLong(4), header.getLong(12), position);
+            position += RECORD_HEADER_SIZE + length;
+        }
+
+        logLength = position;
+        index.putLong(24, logLength);
+    }
+
+    /**
+     * Points the index entry of the specified ID to the specified position, growing the index if it is too full.
+     *
+     * @since 1.0.0-beta.1
+     */
+    private void insert(long mostSigBits, long leastSigBits, long position) throws IOException {
+        int slot = findSlot(mostSigBits, leastSigBits);
+        if (index.getLong(slotOffset(slot) + 16) == 0) {
+            if ((size + 1) * 10L > capacity * 7L) {
+                grow();
+                slot = findSlot(mostSigBits, leastSigBits);
+            }
+            size++;
+            index.putInt(8, size);
+        }
+        writeSlot(index, slot, mostSigBits, leastSigBits, position);
+    }
+
+    /**
+     * Doubles the capacity of the index. The new index is written next to the old one and the manifest is switched to
+     * it. If that fails, the old index stays in use.
+     *
+     * @throws IOException If the new index could not be written.
+     * @since 1.0.0-beta.1
+     */
+    private void grow() throws IOException {
+        int newCapacity = capacity * 2;
+        long newIndexId = ThreadLocalRandom.current().nextLong();
+        MappedByteBuffer newIndex = null;
+        boolean switched = false;
+
+        try {
+            newIndex = createIndex(indexFile(newIndexId), newCapacity, generation);
+            for (int slot = 0; slot < capacity; slot++) {
+                int offset = slotOffset(slot);
+                long position = index.getLong(offset + 16) - 1;
+                if (position >= 0) {
+                    insert(newIndex, newCapacity, index.getLong(offset), index.getLong(offset + 8), position);
+                }
+            }
+            newIndex.putInt(8, size);
+            newIndex.putLong(24, logLength);
+            newIndex.force();
+            writeManifest(generation, newIndexId);
+            switched = true;
+        } finally {
+            if (!switched) {
+                if (newIndex != null) {
+                    unmap(newIndex);
+                }
+                deleteQuietly(indexFile(newIndexId));
+            }
+        }
+
+        MappedByteBuffer oldIndex = index;
+        long oldIndexId = indexId;
+        index = newIndex;
+        indexId = newIndexId;
+        capacity = newCapacity;
+        unmap(oldIndex);
+        deleteQuietly(indexFile(oldIndexId));
+    }
+
+    /**
+     * Writes the manifest next to the current one and then replaces it, which switches the store to the specified files.
+     *
+     * @param logGeneration The generation of the log in use.
+     * @param logIndexId    The ID of the index in use.
+     * @throws IOException If the manifest could not be written.
+     * @since 1.0.0-beta.1
+     */
+    private void writeManifest(long logGeneration, long logIndexId) throws IOException {
+        Path temporary = directory.resolve("variables.manifest.tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            writeFully(channel, ByteBuffer.allocate(MANIFEST_SIZE).putInt(MANIFEST_MAGIC).putLong(logGeneration).putLong(logIndexId).flip(), 0);
+            channel.force(true);
+        }
+        Files.move(temporary, manifestFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Deletes the logs and indexes that are not named by the manifest.
+     *
+     * @since 1.0.0-beta.1
+     */
+    private void deleteUnusedFiles() throws IOException {
+        Path logFile = logFile(generation);
+        Path indexFile = indexFile(indexId);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "variables-*.{log,idx}")) {
+            for (Path file : files) {
+                if (!file.equals(logFile) && !file.equals(indexFile)) {
+                    deleteQuietly(file);
+                }
+            }
+        }
+        deleteQuietly(directory.resolve("variables.manifest.tmp"));
+    }
+
+    private Path logFile(long logGeneration) {
+        return directory.resolve("variables-%016x.log".formatted(logGeneration));
+    }
+
+    private Path indexFile(long logIndexId) {
+        return directory.resolve("variables-%016x.idx".formatted(logIndexId));
+    }
+
+    /**
+     * Returns the slot of the specified ID, or the empty slot where it would be inserted.
+     *
+     * @since 1.0.0-beta.1
+     */
+    private int findSlot(long mostSigBits, long leastSigBits) {
+        return findSlot(index, capacity, mostSigBits, leastSigBits);
+    }
+
+    private static int findSlot(MappedByteBuffer index, int capacity, long mostSigBits, long leastSigBits) {
+        int mask = capacity - 1;
+        int slot = hash(mostSigBits, leastSigBits) & mask;
+        while (true) {
+            int offset = slotOffset(slot);
+            if (index.getLong(offset + 16) == 0
+                    || (index.getLong(offset) == mostSigBits && index.getLong(offset + 8) == leastSigBits)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static void insert(MappedByteBuffer index, int capacity, long mostSigBits, long leastSigBits, long position) {
+        writeSlot(index, findSlot(index, capacity, mostSigBits, leastSigBits), mostSigBits, leastSigBits, position);
+    }
+
+    private static void writeSlot(MappedByteBuffer index, int slot, long mostSigBits, long leastSigBits, long position) {
+        int offset = slotOffset(slot);
+        index.putLong(offset, mostSigBits);
+        index.putLong(offset + 8, leastSigBits);
+        index.putLong(offset + 16, position + 1);
+    }
+
+    private static MappedByteBuffer createIndex(Path file, int capacity, long generation) throws IOException {
+        MappedByteBuffer index;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            index = channel.map(FileChannel.MapMode.READ_WRITE, 0, INDEX_HEADER_SIZE + (long) capacity * SLOT_SIZE);
+        }
+        index.putInt(0, INDEX_MAGIC);
+        index.putInt(4, capacity);
+        index.putInt(8, 0);
+        index.putLong(16, generation);
+        index.putLong(24, LOG_HEADER_SIZE);
+        return index;
+    }
+
+    /**
+     * Unmaps the specified index right away instead of when it is garbage collected, so its file can be deleted on
+     * systems that do not allow deleting mapped files. The index must not be accessed afterwards.
+     */
+    private static void unmap(MappedByteBuffer index) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, index);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Failed to unmap an index of the component variable store", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete {}, it is deleted the next time the store is opened", file, e);
+        }
+    }
+
+    private static int capacityFor(int entries) {
+        int capacity = INITIAL_CAPACITY;
+        while (entries * 10L > capacity * 7L) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    private static int slotOffset(int slot) {
+        return INDEX_HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    private static int hash(long mostSigBits, long leastSigBits) {
+        long hash = (mostSigBits ^ leastSigBits) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static boolean isExpired(long expiresAt, long now) {
+        return expiresAt != 0 && expiresAt <= now;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of the component variable log");
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Reads the header of the record at the specified position and checks that the record lies within the log.
+     *
+     * @return The length of the payload of the record.
+     * @throws IOException If the header could not be read or the record does not fit into the log.
+     */
+    private static int readRecordHeader(FileChannel channel, ByteBuffer header, long position, long end) throws IOException {
+        if (position < LOG_HEADER_SIZE || position > end - RECORD_HEADER_SIZE) {
+            throw new IOException("The index of the component variable store points outside of the log at position " + position);
+        }
+        header.clear();
+        readFully(channel, header, position);
+        int length = header.getInt(0);
+        if (length < 0 || length > MAX_RECORD_SIZE || position + RECORD_HEADER_SIZE + length > end) {
+            throw new IOException("The component variable log contains an invalid record at position " + position);
+        }
+        return length;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("The component variable store is closed");
+        }
+    }
+}
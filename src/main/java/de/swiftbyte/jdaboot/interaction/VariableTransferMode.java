@@ -0,0 +1,43 @@
+package de.swiftbyte.jdaboot.interaction;
+
+/**
+ * The VariableTransferMode enum defines how the variables of a button, select menu or modal are transferred
+ * to the interaction that is triggered when the component is used.
+ *
+ * @since 1.0.0-beta.1
+ */
+public enum VariableTransferMode {
+
+    /**
+     * Uses the mode configured in the JDABootConfiguration annotation.
+     *
+     * @since 1.0.0-beta.1
+     */
+    DEFAULT,
+
+    /**
+     * Keeps the variables in the {@link ComponentVariableStore} and puts a random ID into the custom ID of the component.
+     * The variables are kept in memory even if the {@link PersistentComponentVariableStore} is configured.
+     *
+     * @since 1.0.0-beta.1
+     */
+    STORE,
+
+    /**
+     * Encodes the variables into the custom ID of the component, so no state is kept by the bot and the component keeps
+     * working after a restart and on other processes. If the encoded variables do not fit into the custom ID,
+     * they are kept in the {@link PersistentComponentVariableStore} if it is configured, or in the
+     * {@link ComponentVariableStore} otherwise.
+     *
+     * @since 1.0.0-beta.1
+     */
+    INLINE,
+
+    /**
+     * Keeps the variables in the {@link PersistentComponentVariableStore}, so the component keeps working after a restart.
+     * If the persistent store is not configured, the variables are kept in the {@link ComponentVariableStore} instead.
+     *
+     * @since 1.0.0-beta.1
+     */
+    PERSISTENT
+}
@@ -1,6 +1,7 @@
 package de.swiftbyte.jdaboot.interaction.button;
 
 import de.swiftbyte.jdaboot.annotation.interaction.button.ButtonDefinition;
+import de.swiftbyte.jdaboot.interaction.ComponentVariableTransfer;
 import de.swiftbyte.jdaboot.variables.VariableProcessor;
 import lombok.Getter;
 import lombok.Setter;
@@ -9,7 +10,6 @@ import net.dv8tion.jda.api.interactions.DiscordLocale;
 import net.dv8tion.jda.api.interactions.components.buttons.Button;
 
 import java.util.HashMap;
-import java.util.UUID;
 
 /**
  * The AdvancedButton class is responsible for generating advanced buttons based on a provided TemplateButton.
@@ -26,7 +26,6 @@ public class AdvancedButton {
     private DiscordLocale locale;
 
     private HashMap<String, String> variables = new HashMap<>();
-    private static HashMap<String, HashMap<String, String>> variableTransfer = new HashMap<>();
 
     /**
      * Constructor for AdvancedButton. Initializes the button with the specified template, variables, and locale.
@@ -62,11 +61,8 @@ public class AdvancedButton {
      */
     public Button build() {
 
-        String variableId = UUID.randomUUID().toString();
-        variableTransfer.put(variableId, variables);
-
         ButtonDefinition definition = template.getDefinition();
-        String id = template.getId() + ";" + variableId;
+        String id = ComponentVariableTransfer.createComponentId(template.getId(), variables, definition.variableTransfer());
         String label = processVar(definition.label());
 
         Button btn = switch (definition.type()) {
@@ -99,11 +95,11 @@ public class AdvancedButton {
      * Retrieves the variables associated with the specified ID.
      *
      * @param id The ID of the button.
-     * @return The variables associated with the ID.
+     * @return The variables associated with the ID, or null if they expired or were evicted.
      * @since 1.0.0-alpha.9
      */
     public static HashMap<String, String> getVariablesFromId(String id) {
-        return variableTransfer.get(id);
+        return ComponentVariableTransfer.getVariables(id);
     }
 
 }
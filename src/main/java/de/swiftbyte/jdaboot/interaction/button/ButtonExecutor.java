@@ -1,5 +1,6 @@
 package de.swiftbyte.jdaboot.interaction.button;
 
+import de.swiftbyte.jdaboot.interaction.ComponentContext;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 
 import java.util.HashMap;
@@ -13,12 +14,29 @@ import java.util.HashMap;
 public interface ButtonExecutor {
 
     /**
-     * Called when the button is clicked.
+     * Called when the button is clicked. The reply and edit methods of the context still reach the user if the
+     * interaction watchdog deferred the click. The default implementation calls
+     * {@link #onButtonClick(ButtonInteractionEvent, HashMap)}.
+     *
+     * @param context The context of the click, with the variables set in the advanced button.
+     * @since 1.0.0-beta.1
+     */
+    default void onButtonClick(ComponentContext<ButtonInteractionEvent> context) {
+        onButtonClick(context.getEvent(), context.getVariables());
+    }
+
+    /**
+     * Called when the button is clicked. The default implementation does nothing.
      *
      * @param event     The button interaction event.
      * @param variables The variables set in the advanced button, empty when fix id is used and button was created before a restart.
+     *                  The map is owned by this invocation.
      * @since alpha.4
+     * @deprecated Replying to the event directly fails once the interaction watchdog deferred the click.
+     * Override {@link #onButtonClick(ComponentContext)} instead.
      */
-    void onButtonClick(ButtonInteractionEvent event, HashMap<String, String> variables);
+    @Deprecated(since = "1.0.0-beta.1")
+    default void onButtonClick(ButtonInteractionEvent event, HashMap<String, String> variables) {
+    }
 
 }
@@ -1,27 +1,25 @@
 package de.swiftbyte.jdaboot.interaction.button;
 
+import de.swiftbyte.jdaboot.JDABootComponentIndex;
 import de.swiftbyte.jdaboot.JDABootObjectManager;
 import de.swiftbyte.jdaboot.annotation.interaction.button.ButtonByClass;
 import de.swiftbyte.jdaboot.annotation.interaction.button.ButtonById;
 import de.swiftbyte.jdaboot.annotation.interaction.button.ButtonDefinition;
+import de.swiftbyte.jdaboot.interaction.ComponentRouter;
 import lombok.extern.slf4j.Slf4j;
-import net.dv8tion.jda.api.JDA;
-import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
-import net.dv8tion.jda.api.hooks.ListenerAdapter;
-import org.reflections.Reflections;
-import org.reflections.scanners.Scanners;
 
 import java.util.HashMap;
 import java.util.UUID;
 
 /**
- * The ButtonManager class extends ListenerAdapter and is responsible for managing bot buttons in the application.
- * It maintains a map of button IDs to ButtonExecutor instances, and handles button interaction events.
+ * The ButtonManager class is responsible for managing bot buttons in the application.
+ * It maintains a map of button IDs to ButtonExecutor instances and registers them with the {@link ComponentRouter},
+ * which handles the button interaction events.
  *
  * @since alpha.4
  */
 @Slf4j
-public class ButtonManager extends ListenerAdapter {
+public class ButtonManager {
 
     /**
      * The map of button IDs to ButtonExecutor instances.
@@ -35,17 +33,15 @@ public class ButtonManager extends ListenerAdapter {
 
 
     /**
-     * Constructor for ButtonManager. Initializes the manager with the specified JDA instance and main class.
-     * It uses reflection to find classes annotated with @ButtonDefinition and creates instances of those classes.
+     * Constructor for ButtonManager. Initializes the manager with the specified router and component index.
+     * It looks up classes annotated with @ButtonDefinition in the index and creates instances of those classes.
      *
-     * @param jda       The JDA instance to use for button handling.
-     * @param mainClass The main class of your project.
+     * @param router The router that passes button interactions to the buttons.
+     * @param index  The component index of your project.
      * @since alpha.4
      */
-    public ButtonManager(JDA jda, Class<?> mainClass) {
-        Reflections reflections = new Reflections(mainClass.getPackageName(), Scanners.FieldsAnnotated, Scanners.TypesAnnotated);
-
-        reflections.getTypesAnnotatedWith(ButtonDefinition.class).forEach(clazz -> {
+    public ButtonManager(ComponentRouter router, JDABootComponentIndex index) {
+        index.getTypesAnnotatedWith(ButtonDefinition.class).forEach(clazz -> {
 
             ButtonDefinition annotation = clazz.getAnnotation(ButtonDefinition.class);
 
@@ -61,6 +57,9 @@ public class ButtonManager extends ListenerAdapter {
 
             if (ButtonExecutor.class.isAssignableFrom(clazz)) {
                 ButtonExecutor cmd = (ButtonExecutor) JDABootObjectManager.getOrInitialiseObject(clazz);
+                if (!router.register(ComponentRouter.ComponentType.BUTTON, id, cmd::onButtonClick)) {
+                    return;
+                }
 
                 buttonExecutableList.put(id, cmd);
                 classList.put(clazz, id);
@@ -69,16 +68,15 @@ public class ButtonManager extends ListenerAdapter {
             }
         });
 
-        reflections.getFieldsAnnotatedWith(ButtonById.class).forEach(field -> {
+        index.getFieldsAnnotatedWith(ButtonById.class).forEach(field -> {
             ButtonById annotation = field.getAnnotation(ButtonById.class);
             JDABootObjectManager.injectField(field.getDeclaringClass(), field, getButton(annotation.value()));
         });
-        reflections.getFieldsAnnotatedWith(ButtonByClass.class).forEach(field -> {
+        index.getFieldsAnnotatedWith(ButtonByClass.class).forEach(field -> {
             ButtonByClass annotation = field.getAnnotation(ButtonByClass.class);
             JDABootObjectManager.injectField(field.getDeclaringClass(), field, getButton(annotation.value()));
         });
 
-        jda.addEventListener(this);
     }
 
     /**
@@ -104,21 +102,4 @@ public class ButtonManager extends ListenerAdapter {
         String id = classList.get(clazz);
         return getButton(id);
     }
-
-    /**
-     * Handles button interaction events. When a button is clicked, this method finds the corresponding
-     * ButtonExecutor instance and delegates the event to it.
-     *
-     * @param event The button interaction event.
-     * @since alpha.4
-     */
-    @Override
-    public void onButtonInteraction(ButtonInteractionEvent event) {
-
-        String[] idParts = event.getComponentId().split(";");
-
-        if (buttonExecutableList.containsKey(idParts[0])) {
-            buttonExecutableList.get(idParts[0]).onButtonClick(event, idParts.length == 2 ? AdvancedButton.getVariablesFromId(idParts[1]) : new HashMap<>());
-        }
-    }
 }
@@ -0,0 +1,47 @@
+package de.swiftbyte.jdaboot.interaction.command;
+
+import de.swiftbyte.jdaboot.interaction.InteractionContext;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+
+/**
+ * The CommandContext class holds a single invocation of a slash command and provides helpers to reply to it.
+ * A new context is created for every invocation, so a command can be invoked several times at once without the
+ * invocations affecting each other.
+ *
+ * @since 1.0.0-beta.1
+ */
+public class CommandContext extends InteractionContext<SlashCommandInteractionEvent> {
+
+    /**
+     * Constructor for CommandContext.
+     *
+     * @param event The event of the invocation.
+     * @since 1.0.0-beta.1
+     */
+    public CommandContext(SlashCommandInteractionEvent event) {
+        this(event, true);
+    }
+
+    /**
+     * Constructor for CommandContext.
+     *
+     * @param event          The event of the invocation.
+     * @param publicDeferral Whether the watchdog defers the invocation with a reply that is visible to everyone.
+     * @since 1.0.0-beta.1
+     */
+    public CommandContext(SlashCommandInteractionEvent event, boolean publicDeferral) {
+        super(event, publicDeferral);
+    }
+
+    /**
+     * Returns the option with the specified name.
+     *
+     * @param name The name of the option.
+     * @return The option, or null if it was not provided.
+     * @since 1.0.0-beta.1
+     */
+    public OptionMapping getOption(String name) {
+        return getEvent().getOption(name);
+    }
+}
@@ -0,0 +1,115 @@
+package de.swiftbyte.jdaboot.interaction.command;
+
+import net.dv8tion.jda.api.interactions.commands.build.CommandData;
+import net.dv8tion.jda.api.utils.data.DataArray;
+import net.dv8tion.jda.api.utils.data.DataObject;
+import net.dv8tion.jda.api.utils.data.SerializableData;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * The CommandFingerprint class computes a stable hash of a set of commands, so it can be detected whether the commands
+ * changed since they were last sent to Discord.
+ * <p>
+ * The commands are serialized to JSON with their keys sorted and the commands ordered by type and name, so the
+ * fingerprint only depends on the content of the commands and not on the order in which they were registered.
+ *
+ * @since 1.0.0-beta.1
+ */
+public final class CommandFingerprint {
+
+    private CommandFingerprint() {
+    }
+
+    /**
+     * Computes the fingerprint of the specified commands.
+     *
+     * @param commands The commands.
+     * @return The SHA-256 hash of the canonical JSON of the commands, as a hex string.
+     * @since 1.0.0-beta.1
+     */
+    public static String compute(Collection<CommandData> commands) {
+        List<CommandData> sorted = new ArrayList<>(commands);
+        sorted.sort(Comparator.comparing((CommandData data) -> data.getType().ordinal()).thenComparing(CommandData::getName));
+
+        StringBuilder json = new StringBuilder("[");
+        for (CommandData data : sorted) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            appendValue(json, data.toData().toMap());
+        }
+        json.append(']');
+
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void appendValue(StringBuilder json, Object value) {
+        if (value instanceof DataObject object) {
+            appendValue(json, object.toMap());
+        } else if (value instanceof DataArray array) {
+            appendValue(json, array.toList());
+        } else if (value instanceof SerializableData data) {
+            appendValue(json, data.toData().toMap());
+        } else if (value instanceof Map<?, ?> map) {
+            json.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : new TreeMap<>(map).entrySet()) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                appendString(json, entry.getKey().toString());
+                json.append(':');
+                appendValue(json, entry.getValue());
+            }
+            json.append('}');
+        } else if (value instanceof Collection<?> list) {
+            json.append('[');
+            boolean first = true;
+            for (Object element : list) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                appendValue(json, element);
+            }
+            json.append(']');
+        } else if (value instanceof String string) {
+            appendString(json, string);
+        } else if (value instanceof Enum<?> constant) {
+            appendString(json, constant.name());
+        } else {
+            json.append(value);
+        }
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
@@ -1,28 +1,40 @@
 package de.swiftbyte.jdaboot.interaction.command;
 
+import de.swiftbyte.jdaboot.JDABootComponentIndex;
+import de.swiftbyte.jdaboot.JDABootConfigurationManager;
+import de.swiftbyte.jdaboot.JDABootConnection;
 import de.swiftbyte.jdaboot.JDABootObjectManager;
 import de.swiftbyte.jdaboot.annotation.interaction.command.CommandOption;
 import de.swiftbyte.jdaboot.annotation.interaction.command.SlashCommandDefinition;
 import de.swiftbyte.jdaboot.annotation.interaction.command.Subcommand;
 import de.swiftbyte.jdaboot.annotation.interaction.command.SubcommandGroup;
+import de.swiftbyte.jdaboot.execution.SerialLaneExecutor;
+import de.swiftbyte.jdaboot.execution.WorkerExecutor;
+import de.swiftbyte.jdaboot.interaction.InteractionContext;
+import de.swiftbyte.jdaboot.interaction.InteractionWatchdog;
 import de.swiftbyte.jdaboot.variables.TranslationProcessor;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.Permission;
 import net.dv8tion.jda.api.events.interaction.command.*;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import net.dv8tion.jda.api.interactions.DiscordLocale;
+import net.dv8tion.jda.api.interactions.Interaction;
 import net.dv8tion.jda.api.interactions.InteractionContextType;
 import net.dv8tion.jda.api.interactions.commands.DefaultMemberPermissions;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.*;
-import org.reflections.Reflections;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * The CommandManager class is responsible for managing commands in the application.
@@ -38,27 +50,73 @@ public class CommandManager extends ListenerAdapter {
 
     private HashMap<String, ContextCommandExecutor<?>> contextCommands = new HashMap<>();
 
+    private HashMap<String, SlashCommandDefinition.Execution> executions = new HashMap<>();
+
+    private final Set<String> ephemeralDeferrals = new HashSet<>();
+
+    /**
+     * The data of all commands by their name. The map is not modified after it was published; when the localizations
+     * are refreshed, a new map replaces it.
+     *
+     * @since alpha.4
+     */
     @Getter
-    private HashMap<String, CommandData> commandData = new HashMap<>();
+    private volatile HashMap<String, CommandData> commandData = new HashMap<>();
+
+    private final List<String> globalCommands = new ArrayList<>();
+
+    private final List<String> guildCommands = new ArrayList<>();
+
+    private final Map<String, RegisteredCommand> registrations = new HashMap<>();
+
+    private final Map<String, Map<DiscordLocale, String>> localizations = new ConcurrentHashMap<>();
+
+    private final JDABootConnection connection;
+
+    private final Runnable translationListener = this::refreshLocalizations;
+
+    private final WorkerExecutor pool;
+
+    private final WorkerExecutor virtualThreads;
+
+    private final SerialLaneExecutor lanes;
+
+    private final InteractionWatchdog watchdog;
 
     /**
-     * Constructor for CommandManager. Initializes the manager with the specified JDA instance and main class.
-     * It uses reflection to find classes annotated with @Command and creates instances of those classes.
+     * Constructor for CommandManager. Initializes the manager with the specified connection and component index.
+     * It looks up classes annotated with @Command in the index and creates instances of those classes.
      *
-     * @param jda       The JDA instance to use for command handling.
-     * @param mainClass The main class of your project.
+     * @param connection       The connection to Discord to use for command handling.
+     * @param index            The component index of your project.
+     * @param defaultExecution The execution model of commands that do not specify their own.
+     * @param pool             The pool that commands with {@link SlashCommandDefinition.Execution#POOL} run on.
+     * @param virtualThreads   The executor that commands with {@link SlashCommandDefinition.Execution#VIRTUAL_THREAD} run on.
+     * @param lanes            The lanes that commands with {@link SlashCommandDefinition.Execution#GUILD_LANES} run on.
+     * @param watchdog         The watchdog that defers command invocations which are not acknowledged in time.
      * @since alpha.4
      */
-    public CommandManager(JDA jda, Class<?> mainClass) {
-        Reflections reflections = new Reflections(mainClass.getPackageName());
+    public CommandManager(JDABootConnection connection, JDABootComponentIndex index, SlashCommandDefinition.Execution defaultExecution,
+                          WorkerExecutor pool, WorkerExecutor virtualThreads, SerialLaneExecutor lanes, InteractionWatchdog watchdog) {
+        this.pool = pool;
+        this.virtualThreads = virtualThreads;
+        this.lanes = lanes;
+        this.watchdog = watchdog;
+        this.connection = connection;
 
-        reflections.getTypesAnnotatedWith(SlashCommandDefinition.class).forEach(clazz -> {
+        index.getTypesAnnotatedWith(SlashCommandDefinition.class).forEach(clazz -> {
 
             SlashCommandDefinition annotation = clazz.getAnnotation(SlashCommandDefinition.class);
 
             String name = annotation.name();
+            SlashCommandDefinition.Execution execution = annotation.execution() == SlashCommandDefinition.Execution.DEFAULT
+                    ? defaultExecution : annotation.execution();
 
             if (SlashCommandExecutor.class.isAssignableFrom(clazz)) {
+                if (!SlashCommandExecutor.implementsOnCommand(clazz)) {
+                    log.error("Command {} does not implement onCommand(CommandContext)! Skipping...", clazz.getName());
+                    return;
+                }
                 SlashCommandExecutor cmd = (SlashCommandExecutor) JDABootObjectManager.getOrInitialiseObject(clazz);
 
                 CommandData data = buildCommand(annotation);
@@ -67,12 +125,18 @@ public class CommandManager extends ListenerAdapter {
                     return;
                 }
                 commandData.put(data.getName(), data);
+                registrations.put(data.getName(), new RegisteredCommand(annotation, cmd));
                 commands.put(data.getName(), cmd);
+                executions.put(data.getName(), execution);
+                if (annotation.deferEphemeral()) {
+                    ephemeralDeferrals.add(data.getName());
+                }
                 if (!annotation.isGlobal()) {
+                    guildCommands.add(data.getName());
                     return;
                 }
-                jda.upsertCommand(data).queue();
                 cmd.onEnable((SlashCommandData) data);
+                globalCommands.add(data.getName());
                 log.info("Registered slash command {}", clazz.getName());
             } else if (UserContextCommandExecutor.class.isAssignableFrom(clazz)) {
 
@@ -84,12 +148,18 @@ public class CommandManager extends ListenerAdapter {
                     return;
                 }
                 commandData.put(data.getName(), data);
+                registrations.put(data.getName(), new RegisteredCommand(annotation, cmd));
                 contextCommands.put(data.getName(), cmd);
+                executions.put(data.getName(), execution);
+                if (annotation.deferEphemeral()) {
+                    ephemeralDeferrals.add(data.getName());
+                }
                 if (!annotation.isGlobal()) {
+                    guildCommands.add(data.getName());
                     return;
                 }
-                jda.upsertCommand(data).queue();
                 cmd.onEnable(data);
+                globalCommands.add(data.getName());
                 log.info("Registered user context command {}", clazz.getName());
             } else if (MessageContextCommandExecutor.class.isAssignableFrom(clazz)) {
 
@@ -101,19 +171,164 @@ public class CommandManager extends ListenerAdapter {
                     return;
                 }
                 commandData.put(data.getName(), data);
+                registrations.put(data.getName(), new RegisteredCommand(annotation, cmd));
                 contextCommands.put(data.getName(), cmd);
+                executions.put(data.getName(), execution);
+                if (annotation.deferEphemeral()) {
+                    ephemeralDeferrals.add(data.getName());
+                }
                 if (!annotation.isGlobal()) {
+                    guildCommands.add(data.getName());
                     return;
                 }
-                jda.upsertCommand(data).queue();
                 cmd.onEnable(data);
+                globalCommands.add(data.getName());
                 log.info("Registered message context command {}", clazz.getName());
             } else {
                 log.warn("Command {} is not a child of SlashCommand or ContextCommand! Skipping...", name);
             }
         });
 
-        jda.addEventListener(this);
+        connection.addEventListener(this);
+        TranslationProcessor.addInvalidationListener(translationListener);
+
+        if (JDABootConfigurationManager.getClusterNode() == null || JDABootConfigurationManager.getClusterNode().getNodeId() == 0) {
+            synchronizeGlobalCommands(false);
+        }
+    }
+
+    /**
+     * Returns the commands that are not global and are deployed to guilds individually.
+     *
+     * @return The data of the guild commands.
+     * @see GuildCommandDeployment
+     * @since 1.0.0-beta.1
+     */
+    public List<CommandData> getGuildCommandData() {
+        Map<String, CommandData> data = commandData;
+        return guildCommands.stream().map(data::get).toList();
+    }
+
+    /**
+     * Builds the localizations of all commands again from the current translations and sends the global commands to
+     * Discord if their localizations changed. Called when the translations were invalidated.
+     * The onEnable method of the executors is not called again. Instead, the rebuilt data of global commands is passed
+     * to the onLocalizationsRefreshed method of their executors before it replaces the previous data.
+     * Guild commands are only updated in the command data, use {@link GuildCommandDeployment} to deploy them.
+     * Commands whose name changed in the translations keep their old data until the bot is restarted.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public synchronized void refreshLocalizations() {
+        localizations.clear();
+        HashMap<String, CommandData> refreshed = new HashMap<>(commandData);
+
+        registrations.forEach((name, registration) -> {
+            CommandData data = buildCommand(registration.definition());
+            if (!data.getName().equals(name)) {
+                log.warn("The name of command {} changed to {} in the translations, restart the bot to apply it", name, data.getName());
+                return;
+            }
+            if (registration.definition().isGlobal()) {
+                try {
+                    registration.refreshed(data);
+                } catch (RuntimeException e) {
+                    log.error("Error while refreshing the localizations of command {}, keeping its previous data", name, e);
+                    return;
+                }
+            }
+            refreshed.put(name, data);
+        });
+        commandData = refreshed;
+        log.info("Refreshed the localizations of {} commands", registrations.size());
+
+        if (JDABootConfigurationManager.getClusterNode() == null || JDABootConfigurationManager.getClusterNode().getNodeId() == 0) {
+            synchronizeGlobalCommands(false);
+        }
+    }
+
+    /**
+     * Stops refreshing the localizations of the commands when the translations change. Called when the bot shuts down.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public void shutdown() {
+        TranslationProcessor.removeInvalidationListener(translationListener);
+    }
+
+    /**
+     * Sends all global commands to Discord in a single request, replacing the commands Discord has.
+     * The fingerprint of the sent commands is stored in the file configured with {@code jdaboot.commands.fingerprint-file},
+     * and unless forced, the commands are only sent if their fingerprint differs from the stored one.
+     *
+     * @param force Whether the commands are sent even if they did not change.
+     * @since 1.0.0-beta.1
+     */
+    public void synchronizeGlobalCommands(boolean force) {
+        Map<String, CommandData> data = commandData;
+        List<CommandData> commands = globalCommands.stream().map(data::get).toList();
+        String fingerprint = CommandFingerprint.compute(commands);
+        String applicationId = connection.getSelfUser().getApplicationId();
+
+        Path file = getFingerprintFile();
+        Properties fingerprints = readFingerprints(file);
+        if (!force && fingerprint.equals(fingerprints.getProperty(applicationId))) {
+            log.info("The {} global commands are up to date", commands.size());
+            return;
+        }
+
+        connection.getPrimaryJDA().updateCommands().addCommands(commands).queue(updated -> {
+            log.info("Updated {} global commands", updated.size());
+            fingerprints.setProperty(applicationId, fingerprint);
+            writeFingerprints(file, fingerprints);
+        }, failure -> log.error("Failed to update the global commands", failure));
+    }
+
+    /**
+     * Removes all global commands from Discord and forgets their stored fingerprint, so the next synchronization
+     * sends them again.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public void clearGlobalCommands() {
+        String applicationId = connection.getSelfUser().getApplicationId();
+        Path file = getFingerprintFile();
+
+        connection.getPrimaryJDA().updateCommands().queue(cleared -> {
+            log.info("Removed all global commands");
+            Properties fingerprints = readFingerprints(file);
+            if (fingerprints.remove(applicationId) != null) {
+                writeFingerprints(file, fingerprints);
+            }
+        }, failure -> log.error("Failed to remove the global commands", failure));
+    }
+
+    private static Path getFingerprintFile() {
+        String fingerprintFile = JDABootConfigurationManager.getConfigProviderChain().getString("jdaboot.commands.fingerprint-file", "commands.fingerprint");
+        return fingerprintFile.isBlank() ? null : Path.of(fingerprintFile);
+    }
+
+    private static Properties readFingerprints(Path file) {
+        Properties fingerprints = new Properties();
+        if (file != null && Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file)) {
+                fingerprints.load(reader);
+            } catch (IOException e) {
+                log.warn("Failed to read the command fingerprints from {}", file, e);
+            }
+        }
+        return fingerprints;
+    }
+
+    private static void writeFingerprints(Path file, Properties fingerprints) {
+        if (file == null) {
+            return;
+        }
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            fingerprints.store(writer, "JDA-Boot command fingerprints");
+        } catch (IOException e) {
+            log.warn("Failed to write the command fingerprints to {}", file, e);
+        }
     }
 
     /**
@@ -128,7 +343,10 @@ public class CommandManager extends ListenerAdapter {
         String name = event.getName();
         SlashCommandExecutor executor = commands.get(name);
         if (executor != null) {
-            executor.call(event);
+            boolean ephemeral = ephemeralDeferrals.contains(name);
+            CommandContext context = new CommandContext(event, !ephemeral);
+            watchdog.watch("command:" + name, event, () -> event.deferReply(ephemeral));
+            execute(name, event, () -> executor.invoke(context));
         }
 
     }
@@ -145,7 +363,7 @@ public class CommandManager extends ListenerAdapter {
         String name = event.getName();
         SlashCommandExecutor executor = commands.get(name);
         if (executor != null) {
-            executor.onAutoComplete(event.getFocusedOption(), event);
+            execute(name, event, () -> executor.onAutoComplete(event.getFocusedOption(), event));
         }
     }
 
@@ -183,15 +401,44 @@ public class CommandManager extends ListenerAdapter {
     private void genericContextEvent(GenericContextInteractionEvent<?> event) {
         String name = event.getName();
         ContextCommandExecutor<?> executor = contextCommands.get(name);
+        if (executor == null) {
+            return;
+        }
 
-        if (event instanceof UserContextInteractionEvent) {
-            if (executor != null) {
-                ((UserContextCommandExecutor) executor).onCommand((UserContextInteractionEvent) event);
-            }
-        } else if (event instanceof MessageContextInteractionEvent) {
-            if (executor != null) {
-                ((MessageContextCommandExecutor) executor).onCommand((MessageContextInteractionEvent) event);
-            }
+        boolean ephemeral = ephemeralDeferrals.contains(name);
+        watchdog.watch("context command:" + name, event, () -> event.deferReply(ephemeral));
+        if (event instanceof UserContextInteractionEvent userEvent) {
+            InteractionContext<UserContextInteractionEvent> context = new InteractionContext<>(userEvent, !ephemeral);
+            execute(name, event, () -> ((UserContextCommandExecutor) executor).onCommand(context));
+        } else if (event instanceof MessageContextInteractionEvent messageEvent) {
+            InteractionContext<MessageContextInteractionEvent> context = new InteractionContext<>(messageEvent, !ephemeral);
+            execute(name, event, () -> ((MessageContextCommandExecutor) executor).onCommand(context));
+        }
+    }
+
+    /**
+     * Runs the invocation of a command according to the execution model of the command.
+     *
+     * @param name        The name of the command.
+     * @param interaction The interaction of the invocation.
+     * @param invocation  The invocation to run.
+     * @since 1.0.0-beta.1
+     */
+    private void execute(String name, Interaction interaction, Runnable invocation) {
+        switch (executions.getOrDefault(name, SlashCommandDefinition.Execution.INLINE)) {
+            case POOL -> pool.execute(() -> invokeAsync(name, invocation));
+            case VIRTUAL_THREAD -> virtualThreads.execute(() -> invokeAsync(name, invocation));
+            case GUILD_LANES -> lanes.execute(interaction.getGuild() != null ? interaction.getGuild().getIdLong() : interaction.getChannelIdLong(),
+                    () -> invokeAsync(name, invocation));
+            default -> invocation.run();
+        }
+    }
+
+    private void invokeAsync(String name, Runnable invocation) {
+        try {
+            invocation.run();
+        } catch (RuntimeException e) {
+            log.error("Error while executing command {}", name, e);
         }
     }
 
@@ -296,22 +543,27 @@ public class CommandManager extends ListenerAdapter {
 
     /**
      * Generates a map of localized strings for the provided string.
+     * The map is generated once for every distinct string, with the locales translated in parallel.
      *
      * @param old The original string to localize.
      * @return The map of localized strings.
      * @since alpha.4
      */
-    private HashMap<DiscordLocale, String> generateDiscordLocalised(String old) {
-
-        HashMap<DiscordLocale, String> map = new HashMap<>();
+    private Map<DiscordLocale, String> generateDiscordLocalised(String old) {
 
-        for (DiscordLocale locale : DiscordLocale.values()) {
-            if (locale != DiscordLocale.UNKNOWN) {
-                map.put(locale, TranslationProcessor.processTranslation(locale, old));
-            }
+        Map<DiscordLocale, String> map = localizations.get(old);
+        if (map != null) {
+            return map;
         }
 
-        return map;
+        map = Arrays.stream(DiscordLocale.values())
+                .parallel()
+                .filter(locale -> locale != DiscordLocale.UNKNOWN)
+                .collect(Collectors.toMap(Function.identity(), locale -> TranslationProcessor.processTranslation(locale, old),
+                        (first, second) -> first, () -> new EnumMap<>(DiscordLocale.class)));
+
+        Map<DiscordLocale, String> existing = localizations.putIfAbsent(old, map);
+        return existing == null ? map : existing;
     }
 
     /**
@@ -386,4 +638,26 @@ public class CommandManager extends ListenerAdapter {
 
         return subcommandDataList;
     }
+
+    /**
+     * A registered command, with the annotation it was built from and its executor.
+     *
+     * @since 1.0.0-beta.1
+     */
+    private record RegisteredCommand(SlashCommandDefinition definition, Object executor) {
+
+        /**
+         * Passes the specified data to the onLocalizationsRefreshed method of the executor.
+         *
+         * @param data The rebuilt data of the command.
+         * @since 1.0.0-beta.1
+         */
+        void refreshed(CommandData data) {
+            if (executor instanceof SlashCommandExecutor slashCommand) {
+                slashCommand.onLocalizationsRefreshed((SlashCommandData) data);
+            } else if (executor instanceof ContextCommandExecutor<?> contextCommand) {
+                contextCommand.onLocalizationsRefreshed(data);
+            }
+        }
+    }
 }
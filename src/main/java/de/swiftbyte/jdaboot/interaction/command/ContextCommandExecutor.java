@@ -1,5 +1,6 @@
 package de.swiftbyte.jdaboot.interaction.command;
 
+import de.swiftbyte.jdaboot.interaction.InteractionContext;
 import net.dv8tion.jda.api.events.interaction.command.GenericContextInteractionEvent;
 import net.dv8tion.jda.api.interactions.commands.build.CommandData;
 
@@ -13,7 +14,9 @@ import net.dv8tion.jda.api.interactions.commands.build.CommandData;
 interface ContextCommandExecutor<T extends GenericContextInteractionEvent<?>> {
 
     /**
-     * Called when the context command is enabled. The default implementation does nothing.
+     * Called once when the context command is enabled. The default implementation does nothing.
+     * It is not called again when the localizations of the command are refreshed, see
+     * {@link #onLocalizationsRefreshed(CommandData)}.
      *
      * @param data The data of the context command.
      * @since alpha.4
@@ -22,11 +25,37 @@ interface ContextCommandExecutor<T extends GenericContextInteractionEvent<?>> {
     }
 
     /**
-     * Called when the context command is invoked.
+     * Called when the localizations of the global context command were refreshed because the translations changed.
+     * The data was built again from the annotation and replaces the previous data, so changes made to the data in
+     * {@link #onEnable(CommandData)} have to be made here again. The default implementation does nothing.
+     *
+     * @param data The rebuilt data of the context command.
+     * @since 1.0.0-beta.1
+     */
+    default void onLocalizationsRefreshed(CommandData data) {
+    }
+
+    /**
+     * Called when the context command is invoked. The reply methods of the context still reach the user if the
+     * interaction watchdog deferred the invocation. The default implementation calls {@link #onCommand(GenericContextInteractionEvent)}.
+     *
+     * @param context The context of the invocation.
+     * @since 1.0.0-beta.1
+     */
+    default void onCommand(InteractionContext<T> context) {
+        onCommand(context.getEvent());
+    }
+
+    /**
+     * Called when the context command is invoked. The default implementation does nothing.
      *
      * @param event The context of the command.
      * @since alpha.4
+     * @deprecated Replying to the event directly fails once the interaction watchdog deferred the invocation.
+     * Override {@link #onCommand(InteractionContext)} instead.
      */
-    void onCommand(T event);
+    @Deprecated(since = "1.0.0-beta.1")
+    default void onCommand(T event) {
+    }
 
 }
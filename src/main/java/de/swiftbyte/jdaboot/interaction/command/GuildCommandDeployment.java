@@ -0,0 +1,313 @@
+package de.swiftbyte.jdaboot.interaction.command;
+
+import de.swiftbyte.jdaboot.JDABootConnection;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.interactions.commands.build.CommandData;
+import net.dv8tion.jda.api.requests.ErrorResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The GuildCommandDeployment class rolls out the guild commands of the bot to many guilds.
+ * Every guild receives all commands in a single request, which replaces the commands the guild had. The requests are
+ * sent one after another by a small number of workers, which wait for each request to complete, so JDA can pace them
+ * against the rate limits of Discord instead of queueing thousands of requests at once.
+ * <p>
+ * Deployed guilds are recorded in a state file together with the fingerprint of the commands. If the bot stops during
+ * a deployment, starting it again with the same commands skips the guilds that were already deployed.
+ *
+ * @since 1.0.0-beta.1
+ */
+@Slf4j
+public class GuildCommandDeployment {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final JDABootConnection connection;
+
+    private final List<CommandData> commands;
+
+    private final List<Long> guildIds;
+
+    private final Path stateFile;
+
+    private final int workers;
+
+    private final Duration delay;
+
+    @Getter
+    private final String fingerprint;
+
+    private final AtomicInteger deployed = new AtomicInteger();
+
+    private final AtomicInteger skipped = new AtomicInteger();
+
+    private final Map<Long, String> failures = new ConcurrentHashMap<>();
+
+    private final CompletableFuture<GuildCommandDeployment> completion = new CompletableFuture<>();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private BufferedWriter stateWriter;
+
+    /**
+     * Constructor for GuildCommandDeployment.
+     *
+     * @param connection The connection to Discord.
+     * @param commands   The commands every guild receives.
+     * @param guildIds   The IDs of the guilds to deploy the commands to.
+     * @param stateFile  The file that records the deployed guilds, or null to not make the deployment resumable.
+     * @param workers    The number of requests that are sent at the same time.
+     * @param delay      The delay of a worker between two requests.
+     * @since 1.0.0-beta.1
+     */
+    public GuildCommandDeployment(JDABootConnection connection, Collection<CommandData> commands, Collection<Long> guildIds,
+                                  Path stateFile, int workers, Duration delay) {
+        this.connection = connection;
+        this.commands = List.copyOf(commands);
+        this.guildIds = List.copyOf(new LinkedHashSet<>(guildIds));
+        this.stateFile = stateFile;
+        this.workers = Math.max(1, workers);
+        this.delay = delay;
+        this.fingerprint = CommandFingerprint.compute(this.commands);
+    }
+
+    /**
+     * Starts the deployment in the background. A deployment is only started once, calling this method again returns
+     * the future of the running deployment.
+     *
+     * @return A future that is completed with this deployment once all guilds were processed.
+     * @since 1.0.0-beta.1
+     */
+    public CompletableFuture<GuildCommandDeployment> start() {
+        if (!started.compareAndSet(false, true)) {
+            return completion;
+        }
+
+        Set<Long> done;
+        try {
+            done = openState();
+        } catch (IOException e) {
+            log.error("Failed to open the deployment state {}", stateFile, e);
+            completion.completeExceptionally(e);
+            return completion;
+        }
+
+        Queue<Long> pending = new ConcurrentLinkedQueue<>();
+        for (Long guildId : guildIds) {
+            if (done.contains(guildId)) {
+                skipped.incrementAndGet();
+            } else {
+                pending.add(guildId);
+            }
+        }
+
+        log.info("Deploying {} guild commands to {} guilds, {} guilds were already deployed", commands.size(), pending.size(), skipped.get());
+
+        AtomicInteger running = new AtomicInteger(workers);
+        for (int i = 0; i < workers; i++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    deploy(pending);
+                } finally {
+                    if (running.decrementAndGet() == 0) {
+                        finish();
+                    }
+                }
+            }, "JDABoot-command-deployment-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+        return completion;
+    }
+
+    /**
+     * Returns the number of guilds the deployment covers.
+     *
+     * @return The number of guilds.
+     * @since 1.0.0-beta.1
+     */
+    public int getTotalCount() {
+        return guildIds.size();
+    }
+
+    /**
+     * Returns the number of guilds the commands were deployed to by this run.
+     *
+     * @return The number of deployed guilds.
+     * @since 1.0.0-beta.1
+     */
+    public int getDeployedCount() {
+        return deployed.get();
+    }
+
+    /**
+     * Returns the number of guilds that were skipped, because they were deployed by a previous run.
+     *
+     * @return The number of skipped guilds.
+     * @since 1.0.0-beta.1
+     */
+    public int getSkippedCount() {
+        return skipped.get();
+    }
+
+    /**
+     * Returns the guilds the commands could not be deployed to, with the reason of the failure.
+     * Failed guilds are retried by the next run.
+     *
+     * @return The failed guilds.
+     * @since 1.0.0-beta.1
+     */
+    public Map<Long, String> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Returns whether all guilds were processed.
+     *
+     * @return true if the deployment is finished.
+     * @since 1.0.0-beta.1
+     */
+    public boolean isDone() {
+        return completion.isDone();
+    }
+
+    private void deploy(Queue<Long> pending) {
+        Long guildId;
+        while ((guildId = pending.poll()) != null) {
+            Guild guild = connection.getGuildById(guildId);
+            if (guild == null) {
+                failures.put(guildId, "The guild is not available on this process");
+            } else {
+                deploy(guild);
+            }
+            reportProgress();
+
+            try {
+                TimeUnit.MILLISECONDS.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void deploy(Guild guild) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                guild.updateCommands().addCommands(commands).complete();
+                failures.remove(guild.getIdLong());
+                deployed.incrementAndGet();
+                recordDeployed(guild.getIdLong());
+                return;
+            } catch (ErrorResponseException e) {
+                if (e.getErrorResponse() == ErrorResponse.MISSING_ACCESS || e.getErrorResponse() == ErrorResponse.UNKNOWN_GUILD
+                        || attempt >= MAX_ATTEMPTS) {
+                    failures.put(guild.getIdLong(), e.getMeaning());
+                    log.warn("Failed to deploy the guild commands to guild {}: {}", guild.getId(), e.getMeaning());
+                    return;
+                }
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    failures.put(guild.getIdLong(), String.valueOf(e.getMessage()));
+                    log.warn("Failed to deploy the guild commands to guild {}", guild.getId(), e);
+                    return;
+                }
+            }
+
+            try {
+                TimeUnit.SECONDS.sleep(attempt * 5L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void reportProgress() {
+        int processed = deployed.get() + failures.size();
+        int pending = guildIds.size() - skipped.get();
+        int step = Math.max(1, pending / 20);
+        if (processed % step == 0 || processed == pending) {
+            log.info("Deployed the guild commands to {} of {} guilds, {} failed", deployed.get(), pending, failures.size());
+        }
+    }
+
+    /**
+     * Reads the guilds deployed by a previous run with the same commands, and prepares the state file for this run.
+     *
+     * @return The IDs of the guilds that were already deployed.
+     * @throws IOException If the state file could not be read or written.
+     * @since 1.0.0-beta.1
+     */
+    private Set<Long> openState() throws IOException {
+        Set<Long> done = new HashSet<>();
+        if (stateFile == null) {
+            return done;
+        }
+
+        if (Files.exists(stateFile)) {
+            List<String> lines = Files.readAllLines(stateFile, StandardCharsets.UTF_8);
+            if (!lines.isEmpty() && lines.get(0).equals(fingerprint)) {
+                for (String line : lines.subList(1, lines.size())) {
+                    try {
+                        done.add(Long.parseLong(line.trim()));
+                    } catch (NumberFormatException ignored) {
+                        // A line that was only partially written when the bot stopped.
+                    }
+                }
+                stateWriter = Files.newBufferedWriter(stateFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+                stateWriter.newLine();
+                stateWriter.flush();
+                return done;
+            }
+        }
+
+        stateWriter = Files.newBufferedWriter(stateFile, StandardCharsets.UTF_8);
+        stateWriter.write(fingerprint);
+        stateWriter.newLine();
+        stateWriter.flush();
+        return done;
+    }
+
+    private synchronized void recordDeployed(long guildId) {
+        if (stateWriter == null) {
+            return;
+        }
+        try {
+            stateWriter.write(Long.toString(guildId));
+            stateWriter.newLine();
+            stateWriter.flush();
+        } catch (IOException e) {
+            log.warn("Failed to record the deployment of guild {} in {}", guildId, stateFile, e);
+        }
+    }
+
+    private synchronized void finish() {
+        if (stateWriter != null) {
+            try {
+                stateWriter.close();
+            } catch (IOException e) {
+                log.warn("Failed to close the deployment state {}", stateFile, e);
+            }
+        }
+        log.info("Finished deploying the guild commands: {} deployed, {} skipped, {} failed", deployed.get(), skipped.get(), failures.size());
+        completion.complete(this);
+    }
+}
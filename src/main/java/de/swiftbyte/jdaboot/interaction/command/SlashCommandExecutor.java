@@ -15,15 +15,41 @@ import net.dv8tion.jda.api.interactions.commands.build.SlashCommandData;
  */
 public abstract class SlashCommandExecutor {
 
+    private static final ThreadLocal<CommandContext> CURRENT_CONTEXT = new ThreadLocal<>();
+
+    /**
+     * The event of the current invocation, only set for commands that implement {@link #onCommand()}.
+     *
+     * @deprecated Shared by all invocations of the command. Use {@link CommandContext#getEvent()} instead.
+     */
+    @Deprecated(since = "1.0.0-beta.1")
     protected SlashCommandInteractionEvent event;
 
+    private final boolean legacy = overrides(getClass(), "onCommand");
+
     protected void call(SlashCommandInteractionEvent event) {
-        this.event = event;
-        onCommand();
+        invoke(new CommandContext(event));
     }
 
     /**
-     * Called when the slash command is enabled. The default implementation does nothing.
+     * Invokes the command with the specified context, which the deprecated reply methods use during the invocation.
+     *
+     * @param context The context of the invocation.
+     * @since 1.0.0-beta.1
+     */
+    void invoke(CommandContext context) {
+        CURRENT_CONTEXT.set(context);
+        try {
+            onCommand(context);
+        } finally {
+            CURRENT_CONTEXT.remove();
+        }
+    }
+
+    /**
+     * Called once when the slash command is enabled. The default implementation does nothing.
+     * It is not called again when the localizations of the command are refreshed, see
+     * {@link #onLocalizationsRefreshed(SlashCommandData)}.
      *
      * @param data The data of the slash command.
      * @since alpha.4
@@ -32,11 +58,46 @@ public abstract class SlashCommandExecutor {
     }
 
     /**
-     * Called when the slash command is invoked.
+     * Called when the localizations of the global slash command were refreshed because the translations changed.
+     * The data was built again from the annotation and replaces the previous data, so changes made to the data in
+     * {@link #onEnable(SlashCommandData)} have to be made here again. The default implementation does nothing.
+     *
+     * @param data The rebuilt data of the slash command.
+     * @since 1.0.0-beta.1
+     */
+    public void onLocalizationsRefreshed(SlashCommandData data) {
+    }
+
+    /**
+     * Called when the slash command is invoked. Every invocation has its own context, so the command may be invoked
+     * several times at once.
+     * <p>
+     * If the command only overrides {@link #onCommand()}, the default implementation calls it instead.
+     * Those invocations are run one after another, as they share the {@link #event} field.
+     *
+     * @param context The context of the invocation.
+     * @since 1.0.0-beta.1
+     */
+    public void onCommand(CommandContext context) {
+        if (!legacy) {
+            return;
+        }
+        synchronized (this) {
+            this.event = context.getEvent();
+            onCommand();
+        }
+    }
+
+    /**
+     * Called when the slash command is invoked. The default implementation does nothing.
      *
      * @since alpha.4
+     * @deprecated Reads the invocation from the {@link #event} field, which is shared by all invocations of the command.
+     * Override {@link #onCommand(CommandContext)} instead.
      */
-    public abstract void onCommand();
+    @Deprecated(since = "1.0.0-beta.1")
+    public void onCommand() {
+    }
 
     /**
      * Called when the slash command is auto-completed.
@@ -46,19 +107,76 @@ public abstract class SlashCommandExecutor {
     public void onAutoComplete(AutoCompleteQuery query, CommandAutoCompleteInteractionEvent event) {
     }
 
+    /**
+     * @deprecated Replies to the current invocation. Use the reply methods of {@link CommandContext} instead.
+     */
+    @Deprecated(since = "1.0.0-beta.1")
     protected void reply(TemplateEmbed embed) {
-        reply(embed, event.getUserLocale());
+        currentContext().reply(embed);
     }
 
+    /**
+     * @deprecated Replies to the current invocation. Use the reply methods of {@link CommandContext} instead.
+     */
+    @Deprecated(since = "1.0.0-beta.1")
     protected void reply(TemplateEmbed embed, DiscordLocale locale) {
-        event.replyEmbeds(embed.advancedEmbed(locale).build()).queue();
+        currentContext().reply(embed, locale);
     }
 
+    /**
+     * @deprecated Replies to the current invocation. Use the reply methods of {@link CommandContext} instead.
+     */
+    @Deprecated(since = "1.0.0-beta.1")
     protected void replyEphemeral(TemplateEmbed embed) {
-        replyEphemeral(embed, event.getUserLocale());
+        currentContext().replyEphemeral(embed);
     }
 
+    /**
+     * @deprecated Replies to the current invocation. Use the reply methods of {@link CommandContext} instead.
+     */
+    @Deprecated(since = "1.0.0-beta.1")
     protected void replyEphemeral(TemplateEmbed embed, DiscordLocale locale) {
-        event.replyEmbeds(embed.advancedEmbed(locale).build()).setEphemeral(true).queue();
+        currentContext().replyEphemeral(embed, locale);
+    }
+
+    /**
+     * Returns the context of the invocation that is running on the current thread, or of the {@link #event} field.
+     *
+     * @return The context of the current invocation.
+     * @throws IllegalStateException If the command is not being invoked.
+     * @since 1.0.0-beta.1
+     */
+    private CommandContext currentContext() {
+        CommandContext context = CURRENT_CONTEXT.get();
+        if (context != null) {
+            return context;
+        }
+        if (event != null) {
+            return new CommandContext(event);
+        }
+        throw new IllegalStateException("Command " + getClass().getName() + " can only reply while it is invoked");
+    }
+
+    /**
+     * Returns whether the specified command class implements one of the onCommand methods.
+     *
+     * @param type The command class.
+     * @return true if the class overrides {@link #onCommand(CommandContext)} or {@link #onCommand()}.
+     * @since 1.0.0-beta.1
+     */
+    static boolean implementsOnCommand(Class<?> type) {
+        return overrides(type, "onCommand", CommandContext.class) || overrides(type, "onCommand");
+    }
+
+    private static boolean overrides(Class<?> type, String name, Class<?>... parameterTypes) {
+        for (Class<?> current = type; current != null && current != SlashCommandExecutor.class; current = current.getSuperclass()) {
+            try {
+                current.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException ignored) {
+                // Not declared by this class, check its superclass.
+            }
+        }
+        return false;
     }
 }
@@ -1,6 +1,7 @@
 package de.swiftbyte.jdaboot.interaction.modal;
 
 import de.swiftbyte.jdaboot.annotation.interaction.modal.ModalRow;
+import de.swiftbyte.jdaboot.interaction.ComponentVariableTransfer;
 import de.swiftbyte.jdaboot.utils.StringUtils;
 import de.swiftbyte.jdaboot.variables.VariableProcessor;
 import lombok.AllArgsConstructor;
@@ -31,7 +32,6 @@ public class AdvancedModal {
 
     private HashMap<String, String> variables = new HashMap<>();
     private List<DynamicModalRow> dynamicRows = new ArrayList<>();
-    private static HashMap<String, HashMap<String, String>> variableTransfer = new HashMap<>();
 
     /**
      * Constructor for AdvancedModal. Initializes the modal with the specified template, variables, and locale.
@@ -122,10 +122,7 @@ public class AdvancedModal {
      */
     public Modal build() {
 
-        String variableId = UUID.randomUUID().toString();
-        variableTransfer.put(variableId, variables);
-
-        String id = template.getId() + ";" + variableId;
+        String id = ComponentVariableTransfer.createComponentId(template.getId(), variables, template.getDefinition().variableTransfer());
         String title = processVar(template.getDefinition().title());
 
         Modal.Builder modal = Modal.create(id, title);
@@ -227,10 +224,10 @@ public class AdvancedModal {
      * Get the variables from the given ID.
      *
      * @param id The ID to get the variables from.
-     * @return The variables from the given ID.
+     * @return The variables from the given ID, or null if they expired or were evicted.
      * @since 1.0.0-alpha.9
      */
     public static HashMap<String, String> getVariablesFromId(String id) {
-        return variableTransfer.get(id);
+        return ComponentVariableTransfer.getVariables(id);
     }
 }
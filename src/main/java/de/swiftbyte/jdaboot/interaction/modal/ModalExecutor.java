@@ -1,5 +1,6 @@
 package de.swiftbyte.jdaboot.interaction.modal;
 
+import de.swiftbyte.jdaboot.interaction.ComponentContext;
 import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 
 import java.util.HashMap;
@@ -13,11 +14,28 @@ import java.util.HashMap;
 public interface ModalExecutor {
 
     /**
-     * Called when the modal is submitted.
+     * Called when the modal is submitted. The reply methods of the context still reach the user if the
+     * interaction watchdog deferred the submission. The default implementation calls
+     * {@link #onModalSubmit(ModalInteractionEvent, HashMap)}.
      *
-     * @param event The modal interaction event.
+     * @param context The context of the submission, with the variables set in the advanced modal.
+     * @since 1.0.0-beta.1
+     */
+    default void onModalSubmit(ComponentContext<ModalInteractionEvent> context) {
+        onModalSubmit(context.getEvent(), context.getVariables());
+    }
+
+    /**
+     * Called when the modal is submitted. The default implementation does nothing.
+     *
+     * @param event     The modal interaction event.
+     * @param variables The variables set in the advanced modal. The map is owned by this invocation.
      * @since 1.0.0-alpha.7
+     * @deprecated Replying to the event directly fails once the interaction watchdog deferred the submission.
+     * Override {@link #onModalSubmit(ComponentContext)} instead.
      */
-    void onModalSubmit(ModalInteractionEvent event, HashMap<String, String> variables);
+    @Deprecated(since = "1.0.0-beta.1")
+    default void onModalSubmit(ModalInteractionEvent event, HashMap<String, String> variables) {
+    }
 
 }
@@ -1,27 +1,25 @@
 package de.swiftbyte.jdaboot.interaction.modal;
 
+import de.swiftbyte.jdaboot.JDABootComponentIndex;
 import de.swiftbyte.jdaboot.JDABootObjectManager;
 import de.swiftbyte.jdaboot.annotation.interaction.modal.ModalByClass;
 import de.swiftbyte.jdaboot.annotation.interaction.modal.ModalById;
 import de.swiftbyte.jdaboot.annotation.interaction.modal.ModalDefinition;
+import de.swiftbyte.jdaboot.interaction.ComponentRouter;
 import lombok.extern.slf4j.Slf4j;
-import net.dv8tion.jda.api.JDA;
-import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
-import net.dv8tion.jda.api.hooks.ListenerAdapter;
-import org.reflections.Reflections;
-import org.reflections.scanners.Scanners;
 
 import java.util.HashMap;
 import java.util.UUID;
 
 /**
- * The ModalManager class extends ListenerAdapter and is responsible for managing bot modals in the application.
- * It maintains a map of modal IDs to ModalExecutor instances, and handles modal interaction events.
+ * The ModalManager class is responsible for managing bot modals in the application.
+ * It maintains a map of modal IDs to ModalExecutor instances and registers them with the {@link ComponentRouter},
+ * which handles the modal interaction events.
  *
  * @since 1.0.0-alpha.7
  */
 @Slf4j
-public class ModalManager extends ListenerAdapter {
+public class ModalManager {
 
     /**
      * The map of modal IDs to ModalExecutor instances.
@@ -35,17 +33,15 @@ public class ModalManager extends ListenerAdapter {
 
 
     /**
-     * Constructor for ModalManager. Initializes the manager with the specified JDA instance and main class.
-     * It uses reflection to find classes annotated with @ModalDefinition and creates instances of those classes.
+     * Constructor for ModalManager. Initializes the manager with the specified router and component index.
+     * It looks up classes annotated with @ModalDefinition in the index and creates instances of those classes.
      *
-     * @param jda       The JDA instance to use for modal handling.
-     * @param mainClass The main class of your project.
+     * @param router The router that passes modal interactions to the modals.
+     * @param index  The component index of your project.
      * @since 1.0.0-alpha.7
      */
-    public ModalManager(JDA jda, Class<?> mainClass) {
-        Reflections reflections = new Reflections(mainClass.getPackageName(), Scanners.FieldsAnnotated, Scanners.TypesAnnotated);
-
-        reflections.getTypesAnnotatedWith(ModalDefinition.class).forEach(clazz -> {
+    public ModalManager(ComponentRouter router, JDABootComponentIndex index) {
+        index.getTypesAnnotatedWith(ModalDefinition.class).forEach(clazz -> {
 
             ModalDefinition annotation = clazz.getAnnotation(ModalDefinition.class);
 
@@ -63,6 +59,9 @@ public class ModalManager extends ListenerAdapter {
 
             if (ModalExecutor.class.isAssignableFrom(clazz)) {
                 ModalExecutor cmd = (ModalExecutor) JDABootObjectManager.getOrInitialiseObject(clazz);
+                if (!router.register(ComponentRouter.ComponentType.MODAL, id, cmd::onModalSubmit)) {
+                    return;
+                }
 
                 modalExecutableList.put(id, cmd);
                 classList.put(clazz, id);
@@ -71,16 +70,15 @@ public class ModalManager extends ListenerAdapter {
             }
         });
 
-        reflections.getFieldsAnnotatedWith(ModalById.class).forEach(field -> {
+        index.getFieldsAnnotatedWith(ModalById.class).forEach(field -> {
             ModalById annotation = field.getAnnotation(ModalById.class);
             JDABootObjectManager.injectField(field.getDeclaringClass(), field, getModal(annotation.value()));
         });
-        reflections.getFieldsAnnotatedWith(ModalByClass.class).forEach(field -> {
+        index.getFieldsAnnotatedWith(ModalByClass.class).forEach(field -> {
             ModalByClass annotation = field.getAnnotation(ModalByClass.class);
             JDABootObjectManager.injectField(field.getDeclaringClass(), field, getModal(annotation.value()));
         });
 
-        jda.addEventListener(this);
     }
 
     /**
@@ -106,21 +104,4 @@ public class ModalManager extends ListenerAdapter {
         String id = classList.get(clazz);
         return getModal(id);
     }
-
-    /**
-     * Handles modal interaction events. When a modal is submitted, this method finds the corresponding
-     * ModalExecutor instance and delegates the event to it.
-     *
-     * @param event The modal interaction event.
-     * @since 1.0.0-alpha.7
-     */
-    @Override
-    public void onModalInteraction(ModalInteractionEvent event) {
-
-        String[] idParts = event.getModalId().split(";");
-
-        if (modalExecutableList.containsKey(idParts[0])) {
-            modalExecutableList.get(idParts[0]).onModalSubmit(event, idParts.length == 2 ? AdvancedModal.getVariablesFromId(idParts[1]) : new HashMap<>());
-        }
-    }
 }
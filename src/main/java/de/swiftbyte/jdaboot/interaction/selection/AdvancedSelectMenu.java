@@ -3,6 +3,7 @@ package de.swiftbyte.jdaboot.interaction.selection;
 import de.swiftbyte.jdaboot.annotation.interaction.selection.EntitySelectMenuDefinition;
 import de.swiftbyte.jdaboot.annotation.interaction.selection.StringSelectMenuDefinition;
 import de.swiftbyte.jdaboot.annotation.interaction.selection.StringSelectOption;
+import de.swiftbyte.jdaboot.interaction.ComponentVariableTransfer;
 import de.swiftbyte.jdaboot.utils.StringUtils;
 import de.swiftbyte.jdaboot.variables.VariableProcessor;
 import lombok.Getter;
@@ -31,7 +32,6 @@ public class AdvancedSelectMenu {
     private DiscordLocale locale;
 
     private HashMap<String, String> variables = new HashMap<>();
-    private static HashMap<String, HashMap<String, String>> variableTransfer = new HashMap<>();
 
     private List<EntitySelectMenu.DefaultValue> defaultValues = new ArrayList<>();
 
@@ -168,11 +168,8 @@ public class AdvancedSelectMenu {
             return null;
         }
 
-        String variableId = UUID.randomUUID().toString();
-        variableTransfer.put(variableId, variables);
-
         EntitySelectMenuDefinition definition = template.getEntityDefinition();
-        String id = template.getId() + ";" + variableId;
+        String id = ComponentVariableTransfer.createComponentId(template.getId(), variables, definition.variableTransfer());
 
         EntitySelectMenu.Builder menuBuilder = EntitySelectMenu.create(id, getEntitySelectMenuTargetTypes(definition))
                 .setDisabled(definition.isDisabled())
@@ -227,11 +224,8 @@ public class AdvancedSelectMenu {
             return null;
         }
 
-        String variableId = UUID.randomUUID().toString();
-        variableTransfer.put(variableId, variables);
-
         StringSelectMenuDefinition definition = template.getStringDefinition();
-        String id = template.getId() + ";" + variableId;
+        String id = ComponentVariableTransfer.createComponentId(template.getId(), variables, definition.variableTransfer());
 
         StringSelectMenu.Builder menuBuilder = StringSelectMenu.create(id)
                 .addOptions(generateStringSelectOptions(definition))
@@ -312,11 +306,11 @@ public class AdvancedSelectMenu {
      * Retrieves the variables associated with the specified ID.
      *
      * @param id The ID of the select menu.
-     * @return The variables associated with the ID.
+     * @return The variables associated with the ID, or null if they expired or were evicted.
      * @since 1.0.0-alpha.11
      */
     public static HashMap<String, String> getVariablesFromId(String id) {
-        return variableTransfer.get(id);
+        return ComponentVariableTransfer.getVariables(id);
     }
 
     /**
@@ -1,26 +1,23 @@
 package de.swiftbyte.jdaboot.interaction.selection;
 
+import de.swiftbyte.jdaboot.JDABootComponentIndex;
 import de.swiftbyte.jdaboot.JDABootObjectManager;
 import de.swiftbyte.jdaboot.annotation.interaction.selection.*;
+import de.swiftbyte.jdaboot.interaction.ComponentRouter;
 import lombok.extern.slf4j.Slf4j;
-import net.dv8tion.jda.api.JDA;
-import net.dv8tion.jda.api.events.interaction.component.EntitySelectInteractionEvent;
-import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
-import net.dv8tion.jda.api.hooks.ListenerAdapter;
-import org.reflections.Reflections;
-import org.reflections.scanners.Scanners;
 
 import java.util.HashMap;
 import java.util.UUID;
 
 /**
- * The SelectMenuManager class extends ListenerAdapter and is responsible for managing bot select menus in the application.
- * It maintains a map of select menu IDs to StringSelectMenuExecutor or EntitySelectMenuExecutor instances, and handles select menu interaction events.
+ * The SelectMenuManager class is responsible for managing bot select menus in the application.
+ * It maintains a map of select menu IDs to StringSelectMenuExecutor or EntitySelectMenuExecutor instances and registers them
+ * with the {@link ComponentRouter}, which handles the select menu interaction events.
  *
  * @since 1.0.0-alpha.11
  */
 @Slf4j
-public class SelectMenuManager extends ListenerAdapter {
+public class SelectMenuManager {
 
     /**
      * The map of select menu IDs to StringSelectMenuExecutor instances.
@@ -39,17 +36,15 @@ public class SelectMenuManager extends ListenerAdapter {
 
 
     /**
-     * Constructor for SelectMenuManager. Initializes the manager with the specified JDA instance and main class.
-     * It uses reflection to find classes annotated with @StringSelectMenuDefinition or @EntitySelectMenuDefinition and creates instances of those classes.
+     * Constructor for SelectMenuManager. Initializes the manager with the specified router and component index.
+     * It looks up classes annotated with @StringSelectMenuDefinition or @EntitySelectMenuDefinition in the index and creates instances of those classes.
      *
-     * @param jda       The JDA instance to use for button handling.
-     * @param mainClass The main class of your project.
+     * @param router The router that passes select menu interactions to the select menus.
+     * @param index  The component index of your project.
      * @since 1.0.0-alpha.11
      */
-    public SelectMenuManager(JDA jda, Class<?> mainClass) {
-        Reflections reflections = new Reflections(mainClass.getPackageName(), Scanners.FieldsAnnotated, Scanners.TypesAnnotated);
-
-        reflections.getTypesAnnotatedWith(StringSelectMenuDefinition.class).forEach(clazz -> {
+    public SelectMenuManager(ComponentRouter router, JDABootComponentIndex index) {
+        index.getTypesAnnotatedWith(StringSelectMenuDefinition.class).forEach(clazz -> {
 
             StringSelectMenuDefinition annotation = clazz.getAnnotation(StringSelectMenuDefinition.class);
 
@@ -60,6 +55,9 @@ public class SelectMenuManager extends ListenerAdapter {
 
             if (StringSelectMenuExecutor.class.isAssignableFrom(clazz)) {
                 StringSelectMenuExecutor cmd = (StringSelectMenuExecutor) JDABootObjectManager.getOrInitialiseObject(clazz);
+                if (!router.register(ComponentRouter.ComponentType.STRING_SELECT_MENU, id, cmd::onSelectMenuSubmit)) {
+                    return;
+                }
 
                 stringSelectMenuExecutableList.put(id, cmd);
                 classList.put(clazz, id);
@@ -68,7 +66,7 @@ public class SelectMenuManager extends ListenerAdapter {
             }
         });
 
-        reflections.getTypesAnnotatedWith(EntitySelectMenuDefinition.class).forEach(clazz -> {
+        index.getTypesAnnotatedWith(EntitySelectMenuDefinition.class).forEach(clazz -> {
 
             EntitySelectMenuDefinition annotation = clazz.getAnnotation(EntitySelectMenuDefinition.class);
 
@@ -79,6 +77,9 @@ public class SelectMenuManager extends ListenerAdapter {
 
             if (EntitySelectMenuExecutor.class.isAssignableFrom(clazz)) {
                 EntitySelectMenuExecutor cmd = (EntitySelectMenuExecutor) JDABootObjectManager.getOrInitialiseObject(clazz);
+                if (!router.register(ComponentRouter.ComponentType.ENTITY_SELECT_MENU, id, cmd::onSelectMenuSubmit)) {
+                    return;
+                }
 
                 entitySelectMenuExecutableList.put(id, cmd);
                 classList.put(clazz, id);
@@ -87,20 +88,19 @@ public class SelectMenuManager extends ListenerAdapter {
             }
         });
 
-        reflections.getFieldsAnnotatedWith(SelectMenuById.class).forEach(field -> {
+        index.getFieldsAnnotatedWith(SelectMenuById.class).forEach(field -> {
             SelectMenuById annotation = field.getAnnotation(SelectMenuById.class);
             JDABootObjectManager.injectField(field.getDeclaringClass(), field, getSelectMenu(annotation.value()));
         });
-        reflections.getFieldsAnnotatedWith(StringSelectMenuByClass.class).forEach(field -> {
+        index.getFieldsAnnotatedWith(StringSelectMenuByClass.class).forEach(field -> {
             StringSelectMenuByClass annotation = field.getAnnotation(StringSelectMenuByClass.class);
             JDABootObjectManager.injectField(field.getDeclaringClass(), field, getStringSelectMenu(annotation.value()));
         });
-        reflections.getFieldsAnnotatedWith(EntitySelectMenuByClass.class).forEach(field -> {
+        index.getFieldsAnnotatedWith(EntitySelectMenuByClass.class).forEach(field -> {
             EntitySelectMenuByClass annotation = field.getAnnotation(EntitySelectMenuByClass.class);
             JDABootObjectManager.injectField(field.getDeclaringClass(), field, getEntitySelectMenu(annotation.value()));
         });
 
-        jda.addEventListener(this);
     }
 
     private boolean checkId(String id, Class<?> clazz) {
@@ -158,37 +158,4 @@ public class SelectMenuManager extends ListenerAdapter {
         String id = classList.get(clazz);
         return getSelectMenu(id);
     }
-
-    /**
-     * Handles string select interaction events. When a select menu is submitted, this method finds the corresponding
-     * StringSelectMenuExecutor instance and delegates the event to it.
-     *
-     * @param event The string select menu interaction event.
-     * @since 1.0.0-alpha.11
-     */
-    @Override
-    public void onStringSelectInteraction(StringSelectInteractionEvent event) {
-
-        String[] idParts = event.getComponentId().split(";");
-
-        if (stringSelectMenuExecutableList.containsKey(idParts[0])) {
-            stringSelectMenuExecutableList.get(idParts[0]).onSelectMenuSubmit(event, idParts.length == 2 ? AdvancedSelectMenu.getVariablesFromId(idParts[1]) : new HashMap<>());
-        }
-    }
-
-    /**
-     * Handles entity select interaction events. When a select menu is submitted, this method finds the corresponding
-     * EntitySelectMenuExecutor instance and delegates the event to it.
-     *
-     * @param event The entity select menu interaction event.
-     * @since 1.0.0-alpha.11
-     */
-    @Override
-    public void onEntitySelectInteraction(EntitySelectInteractionEvent event) {
-        String[] idParts = event.getComponentId().split(";");
-
-        if (entitySelectMenuExecutableList.containsKey(idParts[0])) {
-            entitySelectMenuExecutableList.get(idParts[0]).onSelectMenuSubmit(event, idParts.length == 2 ? AdvancedSelectMenu.getVariablesFromId(idParts[1]) : new HashMap<>());
-        }
-    }
 }
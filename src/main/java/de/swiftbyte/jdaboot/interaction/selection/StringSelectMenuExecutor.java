@@ -1,5 +1,6 @@
 package de.swiftbyte.jdaboot.interaction.selection;
 
+import de.swiftbyte.jdaboot.interaction.ComponentContext;
 import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
 
 import java.util.HashMap;
@@ -13,12 +14,29 @@ import java.util.HashMap;
 public interface StringSelectMenuExecutor {
 
     /**
-     * Called when the string select menu is submitted.
+     * Called when the string select menu is submitted. The reply and edit methods of the context still reach the user if
+     * the interaction watchdog deferred the submission. The default implementation calls
+     * {@link #onSelectMenuSubmit(StringSelectInteractionEvent, HashMap)}.
+     *
+     * @param context The context of the submission, with the variables set in the advanced select menu.
+     * @since 1.0.0-beta.1
+     */
+    default void onSelectMenuSubmit(ComponentContext<StringSelectInteractionEvent> context) {
+        onSelectMenuSubmit(context.getEvent(), context.getVariables());
+    }
+
+    /**
+     * Called when the string select menu is submitted. The default implementation does nothing.
      *
      * @param event     The string select menu interaction event.
      * @param variables The variables set in the advanced select menu, empty when fix id is used and select menu was created before a restart.
+     *                  The map is owned by this invocation.
      * @since 1.0.0-alpha.11
+     * @deprecated Replying to the event directly fails once the interaction watchdog deferred the submission.
+     * Override {@link #onSelectMenuSubmit(ComponentContext)} instead.
      */
-    void onSelectMenuSubmit(StringSelectInteractionEvent event, HashMap<String, String> variables);
+    @Deprecated(since = "1.0.0-beta.1")
+    default void onSelectMenuSubmit(StringSelectInteractionEvent event, HashMap<String, String> variables) {
+    }
 
 }
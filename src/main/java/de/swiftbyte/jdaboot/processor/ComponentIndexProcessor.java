@@ -0,0 +1,293 @@
+package de.swiftbyte.jdaboot.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * The ComponentIndexProcessor is an annotation processor that collects all elements annotated with JDA-Boot annotations
+ * at compile time. It writes them to the {@link ComponentRegistry} resource once processing is over,
+ * so the framework can skip the classpath scan on startup.
+ * <p>
+ * When only some classes are compiled, like IDEs do on incremental builds, the registry of the previous compilation is
+ * merged: its entries are kept for classes that were not compiled again and still exist.
+ * <p>
+ * The processor is registered automatically when JDA-Boot is on the annotation processor path of your project.
+ *
+ * @since 1.0.0-beta.1
+ */
+public class ComponentIndexProcessor extends AbstractProcessor {
+
+    private static final String FALLBACK_PACKAGE = "de.swiftbyte.jdaboot.generated";
+
+    private static final List<String> TYPE_ANNOTATIONS = List.of(
+            "de.swiftbyte.jdaboot.annotation.interaction.command.SlashCommandDefinition",
+            "de.swiftbyte.jdaboot.annotation.interaction.button.ButtonDefinition",
+            "de.swiftbyte.jdaboot.annotation.interaction.modal.ModalDefinition",
+            "de.swiftbyte.jdaboot.annotation.interaction.selection.StringSelectMenuDefinition",
+            "de.swiftbyte.jdaboot.annotation.interaction.selection.EntitySelectMenuDefinition",
+            "de.swiftbyte.jdaboot.annotation.cli.ConsoleCommandDefinition"
+    );
+
+    private static final List<String> FIELD_ANNOTATIONS = List.of(
+            "de.swiftbyte.jdaboot.annotation.interaction.button.ButtonById",
+            "de.swiftbyte.jdaboot.annotation.interaction.button.ButtonByClass",
+            "de.swiftbyte.jdaboot.annotation.interaction.modal.ModalById",
+            "de.swiftbyte.jdaboot.annotation.interaction.modal.ModalByClass",
+            "de.swiftbyte.jdaboot.annotation.interaction.selection.SelectMenuById",
+            "de.swiftbyte.jdaboot.annotation.interaction.selection.StringSelectMenuByClass",
+            "de.swiftbyte.jdaboot.annotation.interaction.selection.EntitySelectMenuByClass",
+            "de.swiftbyte.jdaboot.annotation.embed.Embed",
+            "de.swiftbyte.jdaboot.annotation.SetValue"
+    );
+
+    private static final List<String> METHOD_ANNOTATIONS = List.of(
+            "de.swiftbyte.jdaboot.annotation.EventHandler",
+            "de.swiftbyte.jdaboot.annotation.Scheduler"
+    );
+
+    private final Map<String, Set<String>> types = new TreeMap<>();
+    private final Map<String, Set<String>> fields = new TreeMap<>();
+    private final Map<String, Set<String>> methods = new TreeMap<>();
+    private final Set<String> packages = new TreeSet<>();
+    private final Set<String> compiledTypes = new HashSet<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+
+    private boolean written = false;
+
+    /**
+     * Returns the names of all annotations this processor collects.
+     *
+     * @return The supported annotation types.
+     * @since 1.0.0-beta.1
+     */
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        Set<String> supported = new HashSet<>();
+        supported.addAll(TYPE_ANNOTATIONS);
+        supported.addAll(FIELD_ANNOTATIONS);
+        supported.addAll(METHOD_ANNOTATIONS);
+        return supported;
+    }
+
+    /**
+     * Returns the latest supported source version, as the processor does not depend on language features.
+     *
+     * @return The latest supported source version.
+     * @since 1.0.0-beta.1
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * Collects the annotated elements of the current round and writes the registry once processing is over.
+     * The registry is a resource rather than a source file, so writing it in the last round does not leave a type that is
+     * not processed.
+     *
+     * @param annotations The annotations of the current round.
+     * @param roundEnv    The environment of the current round.
+     * @return Always false, so other processors can claim the annotations as well.
+     * @since 1.0.0-beta.1
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        if (roundEnv.processingOver()) {
+            if (!written) {
+                writeRegistry();
+                written = true;
+            }
+            return false;
+        }
+
+        for (Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement type) {
+                compiledTypes.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+            }
+        }
+        collect(roundEnv, TYPE_ANNOTATIONS, ElementKind.CLASS, types);
+        collect(roundEnv, FIELD_ANNOTATIONS, ElementKind.FIELD, fields);
+        collect(roundEnv, METHOD_ANNOTATIONS, ElementKind.METHOD, methods);
+        return false;
+    }
+
+    /**
+     * Collects all elements of the specified kind that are annotated with one of the specified annotations.
+     *
+     * @param roundEnv    The environment of the current round.
+     * @param annotations The names of the annotations to collect.
+     * @param kind        The kind of elements to collect.
+     * @param target      The map to add the collected elements to.
+     * @since 1.0.0-beta.1
+     */
+    private void collect(RoundEnvironment roundEnv, List<String> annotations, ElementKind kind, Map<String, Set<String>> target) {
+        for (String annotationName : annotations) {
+            TypeElement annotation = processingEnv.getElementUtils().getTypeElement(annotationName);
+            if (annotation == null) {
+                continue;
+            }
+
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != kind) {
+                    continue;
+                }
+
+                TypeElement owner = kind == ElementKind.CLASS ? (TypeElement) element : (TypeElement) element.getEnclosingElement();
+                String ownerName = processingEnv.getElementUtils().getBinaryName(owner).toString();
+
+                String entry = switch (kind) {
+                    case CLASS -> ownerName;
+                    case FIELD -> ownerName + "#" + element.getSimpleName();
+                    default -> ownerName + "#" + element.getSimpleName() + "(" + describeParameters((ExecutableElement) element) + ")";
+                };
+
+                target.computeIfAbsent(annotationName, key -> new TreeSet<>()).add(entry);
+                packages.add(processingEnv.getElementUtils().getPackageOf(owner).getQualifiedName().toString());
+                originatingElements.add(owner);
+            }
+        }
+    }
+
+    /**
+     * Describes the erased parameter types of the specified method, separated by commas.
+     *
+     * @param method The method to describe.
+     * @return The description of the parameter types.
+     * @since 1.0.0-beta.1
+     */
+    private String describeParameters(ExecutableElement method) {
+        StringJoiner joiner = new StringJoiner(",");
+        for (VariableElement parameter : method.getParameters()) {
+            joiner.add(describeType(processingEnv.getTypeUtils().erasure(parameter.asType())));
+        }
+        return joiner.toString();
+    }
+
+    private String describeType(TypeMirror type) {
+        if (type instanceof ArrayType arrayType) {
+            return describeType(arrayType.getComponentType()) + "[]";
+        } else if (type instanceof DeclaredType declaredType) {
+            return processingEnv.getElementUtils().getBinaryName((TypeElement) declaredType.asElement()).toString();
+        }
+        return type.toString();
+    }
+
+    /**
+     * Merges the registry of the previous compilation and writes the registry resource.
+     * Nothing is written if neither this nor the previous compilation found annotated elements.
+     *
+     * @since 1.0.0-beta.1
+     */
+    private void writeRegistry() {
+        ComponentRegistry previous = readPreviousRegistry();
+        if (previous != null) {
+            merge(previous.getTypes(), types);
+            merge(previous.getFields(), fields);
+            merge(previous.getMethods(), methods);
+        } else if (packages.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject registryFile = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", ComponentRegistry.RESOURCE_NAME,
+                    originatingElements.toArray(new Element[0]));
+            try (Writer writer = registryFile.openWriter()) {
+                new ComponentRegistry(commonPackage(), types, fields, methods).write(writer);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write the JDA-Boot component registry: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the registry that a previous compilation left in the class output.
+     *
+     * @return The previous registry, or null if there is none or it cannot be read.
+     * @since 1.0.0-beta.1
+     */
+    private ComponentRegistry readPreviousRegistry() {
+        try {
+            FileObject registryFile = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", ComponentRegistry.RESOURCE_NAME);
+            try (Reader reader = registryFile.openReader(true)) {
+                return ComponentRegistry.read(reader);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Adds the entries of the previous registry whose class was not compiled again and still exists.
+     *
+     * @param previous The entries of the previous registry.
+     * @param target   The entries collected in this compilation.
+     * @since 1.0.0-beta.1
+     */
+    private void merge(Map<String, Set<String>> previous, Map<String, Set<String>> target) {
+        previous.forEach((annotation, entries) -> {
+            for (String entry : entries) {
+                int separator = entry.indexOf('#');
+                String owner = separator < 0 ? entry : entry.substring(0, separator);
+                if (isCompiled(owner)) {
+                    continue;
+                }
+
+                TypeElement ownerElement = processingEnv.getElementUtils().getTypeElement(owner.replace('$', '.'));
+                if (ownerElement == null) {
+                    continue;
+                }
+                target.computeIfAbsent(annotation, key -> new TreeSet<>()).add(entry);
+                packages.add(processingEnv.getElementUtils().getPackageOf(ownerElement).getQualifiedName().toString());
+            }
+        });
+    }
+
+    private boolean isCompiled(String owner) {
+        int nested = owner.indexOf('$');
+        return compiledTypes.contains(nested < 0 ? owner : owner.substring(0, nested));
+    }
+
+    /**
+     * Determines the longest package prefix shared by all collected elements.
+     *
+     * @return The common package, or a fallback package if the elements share none.
+     * @since 1.0.0-beta.1
+     */
+    private String commonPackage() {
+        String[] common = null;
+        int length = 0;
+
+        for (String packageName : packages) {
+            String[] parts = packageName.split("\\.");
+            if (common == null) {
+                common = parts;
+                length = parts.length;
+                continue;
+            }
+
+            int matching = 0;
+            while (matching < Math.min(length, parts.length) && common[matching].equals(parts[matching])) {
+                matching++;
+            }
+            length = matching;
+        }
+
+        if (common == null || length == 0 || common[0].isEmpty()) {
+            return FALLBACK_PACKAGE;
+        }
+        return String.join(".", Arrays.copyOf(common, length));
+    }
+}
@@ -0,0 +1,169 @@
+package de.swiftbyte.jdaboot.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * The ComponentRegistry class holds the registry that the {@link ComponentIndexProcessor} writes at compile time to the
+ * resource {@value #RESOURCE_NAME}. It lists all elements annotated with JDA-Boot annotations by the binary name of the
+ * annotation, so the framework can build its component index without scanning the classpath.
+ * <p>
+ * Types are listed by their binary name, fields as {@code com.example.Owner#field} and methods as
+ * {@code com.example.Owner#method(com.example.Parameter)}. The registry is a text file with one entry per line, in the
+ * form {@code <kind> <annotation> <element>}, preceded by a line {@code package <name>} with the package shared by all
+ * elements.
+ *
+ * @since 1.0.0-beta.1
+ */
+public final class ComponentRegistry {
+
+    /**
+     * The name of the resource the registry is written to.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public static final String RESOURCE_NAME = "META-INF/jdaboot/component-registry";
+
+    private static final String PACKAGE = "package";
+
+    private static final String TYPE = "type";
+
+    private static final String FIELD = "field";
+
+    private static final String METHOD = "method";
+
+    private final String packageName;
+
+    private final Map<String, Set<String>> types;
+
+    private final Map<String, Set<String>> fields;
+
+    private final Map<String, Set<String>> methods;
+
+    /**
+     * Constructor for ComponentRegistry.
+     *
+     * @param packageName The package shared by all elements.
+     * @param types       The binary names of the annotated types, grouped by the annotation name.
+     * @param fields      The annotated fields, grouped by the annotation name.
+     * @param methods     The annotated methods, grouped by the annotation name.
+     * @since 1.0.0-beta.1
+     */
+    public ComponentRegistry(String packageName, Map<String, Set<String>> types, Map<String, Set<String>> fields, Map<String, Set<String>> methods) {
+        this.packageName = packageName;
+        this.types = types;
+        this.fields = fields;
+        this.methods = methods;
+    }
+
+    /**
+     * Reads a registry.
+     *
+     * @param reader The reader to read the registry from.
+     * @return The read registry.
+     * @throws IOException If the registry could not be read or is malformed.
+     * @since 1.0.0-beta.1
+     */
+    public static ComponentRegistry read(Reader reader) throws IOException {
+        String packageName = null;
+        Map<String, Set<String>> types = new TreeMap<>();
+        Map<String, Set<String>> fields = new TreeMap<>();
+        Map<String, Set<String>> methods = new TreeMap<>();
+
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] parts = line.split(" ");
+            if (parts.length == 2 && parts[0].equals(PACKAGE)) {
+                packageName = parts[1];
+                continue;
+            }
+            if (parts.length != 3) {
+                throw new IOException("Malformed component registry entry: " + line);
+            }
+
+            Map<String, Set<String>> target = switch (parts[0]) {
+                case TYPE -> types;
+                case FIELD -> fields;
+                case METHOD -> methods;
+                default -> throw new IOException("Unknown component registry entry: " + line);
+            };
+            target.computeIfAbsent(parts[1], key -> new TreeSet<>()).add(parts[2]);
+        }
+
+        if (packageName == null) {
+            throw new IOException("The component registry does not specify its package");
+        }
+        return new ComponentRegistry(packageName, types, fields, methods);
+    }
+
+    /**
+     * Writes the registry.
+     *
+     * @param writer The writer to write the registry to.
+     * @throws IOException If the registry could not be written.
+     * @since 1.0.0-beta.1
+     */
+    public void write(Writer writer) throws IOException {
+        writer.write("# Generated by " + ComponentIndexProcessor.class.getName() + "\n");
+        writer.write(PACKAGE + " " + packageName + "\n");
+        writeEntries(writer, TYPE, types);
+        writeEntries(writer, FIELD, fields);
+        writeEntries(writer, METHOD, methods);
+    }
+
+    private static void writeEntries(Writer writer, String kind, Map<String, Set<String>> entries) throws IOException {
+        for (Map.Entry<String, Set<String>> entry : entries.entrySet()) {
+            for (String element : entry.getValue()) {
+                writer.write(kind + " " + entry.getKey() + " " + element + "\n");
+            }
+        }
+    }
+
+    /**
+     * Returns the package shared by all elements of the registry.
+     *
+     * @return The package name.
+     * @since 1.0.0-beta.1
+     */
+    public String getPackageName() {
+        return packageName;
+    }
+
+    /**
+     * Returns the annotated types.
+     *
+     * @return The binary names of the annotated types, grouped by the annotation name.
+     * @since 1.0.0-beta.1
+     */
+    public Map<String, Set<String>> getTypes() {
+        return types;
+    }
+
+    /**
+     * Returns the annotated fields.
+     *
+     * @return The annotated fields, grouped by the annotation name.
+     * @since 1.0.0-beta.1
+     */
+    public Map<String, Set<String>> getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns the annotated methods.
+     *
+     * @return The annotated methods, grouped by the annotation name.
+     * @since 1.0.0-beta.1
+     */
+    public Map<String, Set<String>> getMethods() {
+        return methods;
+    }
+}
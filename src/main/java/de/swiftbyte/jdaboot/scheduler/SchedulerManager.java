@@ -1,14 +1,13 @@
 package de.swiftbyte.jdaboot.scheduler;
 
+import de.swiftbyte.jdaboot.JDABootComponentIndex;
 import de.swiftbyte.jdaboot.JDABootObjectManager;
 import de.swiftbyte.jdaboot.annotation.Scheduler;
 import lombok.extern.slf4j.Slf4j;
-import org.reflections.Reflections;
-import org.reflections.scanners.Scanners;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
-import java.util.HashSet;
-import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
 
@@ -21,55 +20,59 @@ import java.util.TimerTask;
 @Slf4j
 public class SchedulerManager {
 
-    Reflections reflections;
-
     /**
      * Constructs a new SchedulerManager and registers all methods annotated with Scheduler.
      *
-     * @param mainClass The main class of the application.
+     * @param index The component index of the application.
      * @since alpha.4
      */
-    public SchedulerManager(Class<?> mainClass) {
-        reflections = new Reflections(mainClass.getPackageName(), Scanners.SubTypes.filterResultsBy(c -> true));
-
-        Set<Class<?>> classes = new HashSet<>(reflections.getSubTypesOf(Object.class));
+    public SchedulerManager(JDABootComponentIndex index) {
+        for (Method method : index.getMethodsAnnotatedWith(Scheduler.class)) {
 
-        for (Class<?> clazz : classes) {
-            for (Method method : clazz.getDeclaredMethods()) {
-                if (method.isAnnotationPresent(Scheduler.class)) {
+            Scheduler scheduler = method.getAnnotation(Scheduler.class);
+            Class<?> clazz = method.getDeclaringClass();
 
-                    Scheduler scheduler = method.getAnnotation(Scheduler.class);
-
-                    if (method.getParameterCount() != 0) {
-                        log.error("Method {} in class {} is annotated with @Scheduler but has parameters!", method.getName(), clazz.getSimpleName());
-                        continue;
-                    }
-                    addScheduler(scheduler, method);
-                    log.info("Registered scheduler '{}' in class {}", method.getName(), clazz.getName());
-                }
+            if (method.getParameterCount() != 0) {
+                log.error("Method {} in class {} is annotated with @Scheduler but has parameters!", method.getName(), clazz.getSimpleName());
+                continue;
             }
+            addScheduler(scheduler, method);
+            log.info("Registered scheduler '{}' in class {}", method.getName(), clazz.getName());
         }
     }
 
     /**
      * Adds a new scheduled task to the scheduler.
      * The task is represented by a method annotated with the Scheduler annotation.
+     * The method is bound once when the task is added and not looked up again on every run.
      *
      * @param scheduler The Scheduler annotation of the task.
      * @param method    The method representing the task.
      * @since alpha.4
      */
     private void addScheduler(Scheduler scheduler, Method method) {
+        MethodHandle bound = JDABootObjectManager.bindMethod(method.getDeclaringClass(), method);
+        if (bound == null) {
+            return;
+        }
+
+        boolean cancellable = method.getReturnType() == boolean.class;
+        MethodHandle handle = bound.asType(MethodType.methodType(cancellable ? boolean.class : void.class));
+
         Timer timer = new Timer();
         timer.scheduleAtFixedRate(new TimerTask() {
             @Override
             public void run() {
-                if (method.getReturnType() == boolean.class) {
-                    if (!(boolean) JDABootObjectManager.runMethod(method.getDeclaringClass(), method)) {
-                        timer.cancel();
+                try {
+                    if (cancellable) {
+                        if (!(boolean) handle.invokeExact()) {
+                            timer.cancel();
+                        }
+                    } else {
+                        handle.invokeExact();
                     }
-                } else {
-                    JDABootObjectManager.runMethod(method.getDeclaringClass(), method);
+                } catch (Throwable e) {
+                    log.warn("Failed to run scheduler {} in class {}!", method.getName(), method.getDeclaringClass().getName(), e);
                 }
             }
         }, scheduler.initialDelay(), scheduler.interval());
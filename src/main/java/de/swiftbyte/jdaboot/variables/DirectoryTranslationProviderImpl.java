@@ -0,0 +1,232 @@
+package de.swiftbyte.jdaboot.variables;
+
+import de.swiftbyte.jdaboot.JDABootConfigurationManager;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The DirectoryTranslationProviderImpl class implements the TranslationProvider interface with translation files that
+ * are read from a directory instead of the classpath, and are reloaded while the bot is running when they change.
+ * <p>
+ * The files are named like the resource bundles of {@link ResourceBundleTranslationProviderImpl}: {@code messages.properties}
+ * contains the default translations, and files like {@code messages_de.properties} contain the translations of a language.
+ * The directory is configured with {@code jdaboot.translations.directory}. When a file changes, all files are read into a
+ * new snapshot, which replaces the previous one at once, and the cached translations are invalidated with
+ * {@link TranslationProcessor#clearCache()}.
+ *
+ * @since 1.0.0-beta.1
+ */
+@Slf4j
+public class DirectoryTranslationProviderImpl implements TranslationProvider, Closeable {
+
+    private static final Pattern FILE_PATTERN = Pattern.compile("messages(?:_(\\w+))?\\.properties");
+
+    /**
+     * The directory the translation files are read from.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private final Path directory;
+
+    private volatile Map<String, Map<String, String>> snapshot = Map.of();
+
+    private WatchService watchService;
+
+    /**
+     * Constructor for DirectoryTranslationProviderImpl. Reads the directory from the configuration key
+     * {@code jdaboot.translations.directory} and watches it if {@code jdaboot.translations.watch} is enabled.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public DirectoryTranslationProviderImpl() {
+        this(Path.of(JDABootConfigurationManager.getConfigProviderChain().getString("jdaboot.translations.directory", "translations")),
+                JDABootConfigurationManager.getConfigProviderChain().getBoolean("jdaboot.translations.watch", true));
+    }
+
+    /**
+     * Constructor for DirectoryTranslationProviderImpl.
+     *
+     * @param directory The directory to read the translation files from.
+     * @param watch     Whether the translations are reloaded when the files change.
+     * @since 1.0.0-beta.1
+     */
+    public DirectoryTranslationProviderImpl(Path directory, boolean watch) {
+        this.directory = directory;
+
+        if (!Files.isDirectory(directory)) {
+            log.warn("The translation directory {} does not exist", directory.toAbsolutePath());
+            return;
+        }
+
+        reload();
+        if (watch) {
+            try {
+                watch();
+            } catch (IOException e) {
+                log.error("Failed to watch the translation directory {}, translations are not reloaded", directory, e);
+            }
+        }
+    }
+
+    @Override
+    public String getTranslation(String key, Locale locale) {
+        Map<String, Map<String, String>> current = snapshot;
+        for (String bundle : resolveBundles(current, locale)) {
+            String translation = current.get(bundle).get(key);
+            if (translation != null) {
+                return translation;
+            }
+        }
+        throw new MissingResourceException("Can't find translation for key " + key, getClass().getName(), key);
+    }
+
+    @Override
+    public Map<String, String> getTranslations(Locale locale) {
+        Map<String, Map<String, String>> current = snapshot;
+        List<String> bundles = resolveBundles(current, locale);
+        Map<String, String> translations = new HashMap<>();
+        for (int i = bundles.size() - 1; i >= 0; i--) {
+            translations.putAll(current.get(bundles.get(i)));
+        }
+        return translations;
+    }
+
+    /**
+     * Reads all translation files into a new snapshot and invalidates the cached translations.
+     * If a file cannot be read, the previous translations are kept.
+     *
+     * @return true if the translations were reloaded.
+     * @since 1.0.0-beta.1
+     */
+    public boolean reload() {
+        Map<String, Map<String, String>> loaded = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "messages*.properties")) {
+            for (Path file : files) {
+                Matcher matcher = FILE_PATTERN.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                Properties properties = new Properties();
+                try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+                Map<String, String> translations = new HashMap<>();
+                properties.forEach((key, value) -> translations.put(key.toString(), value.toString()));
+                loaded.put(matcher.group(1) == null ? "" : matcher.group(1), Map.copyOf(translations));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Failed to read the translations from {}, keeping the previous translations", directory, e);
+            return false;
+        }
+
+        snapshot = Map.copyOf(loaded);
+        log.info("Loaded {} translation files from {}", loaded.size(), directory);
+        TranslationProcessor.clearCache();
+        return true;
+    }
+
+    /**
+     * Stops watching the translation directory.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Override
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    /**
+     * Returns the bundles that are searched for a translation of the locale, from the most to the least specific.
+     * Like {@link ResourceBundleTranslationProviderImpl}, a locale without its own bundle falls back to English,
+     * and all locales fall back to the default bundle.
+     */
+    private static List<String> resolveBundles(Map<String, Map<String, String>> snapshot, Locale locale) {
+        List<String> bundles = new ArrayList<>(4);
+        addCandidates(snapshot, locale, bundles);
+        if (bundles.isEmpty() && !locale.getLanguage().equals(Locale.ENGLISH.getLanguage())) {
+            addCandidates(snapshot, Locale.ENGLISH, bundles);
+        }
+        if (snapshot.containsKey("")) {
+            bundles.add("");
+        }
+        return bundles;
+    }
+
+    private static void addCandidates(Map<String, Map<String, String>> snapshot, Locale locale, List<String> bundles) {
+        String language = locale.getLanguage();
+        String country = locale.getCountry();
+        String variant = locale.getVariant();
+
+        List<String> candidates = new ArrayList<>(3);
+        if (!variant.isEmpty()) {
+            candidates.add(language + "_" + country + "_" + variant);
+        }
+        if (!country.isEmpty()) {
+            candidates.add(language + "_" + country);
+        }
+        if (!language.isEmpty()) {
+            candidates.add(language);
+        }
+        for (String candidate : candidates) {
+            if (snapshot.containsKey(candidate)) {
+                bundles.add(candidate);
+            }
+        }
+    }
+
+    private void watch() throws IOException {
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+
+        Thread watcher = new Thread(() -> {
+            try {
+                while (true) {
+                    WatchKey key = watchService.take();
+                    boolean changed = hasTranslationChanges(key);
+
+                    // Editors often write a file in several steps, so collect the events of a short period at once.
+                    while ((key = watchService.poll(250, TimeUnit.MILLISECONDS)) != null) {
+                        changed |= hasTranslationChanges(key);
+                    }
+
+                    if (changed) {
+                        reload();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ClosedWatchServiceException ignored) {
+                // The provider was closed.
+            }
+        }, "JDABoot-translation-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("Watching the translation directory {} for changes", directory);
+    }
+
+    private static boolean hasTranslationChanges(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || event.context() instanceof Path file && FILE_PATTERN.matcher(file.getFileName().toString()).matches()) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+}
@@ -1,6 +1,9 @@
 package de.swiftbyte.jdaboot.variables;
 
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
 
@@ -12,6 +15,17 @@ import java.util.ResourceBundle;
  */
 public class ResourceBundleTranslationProviderImpl implements TranslationProvider {
 
+    /**
+     * Falls back to English instead of the default locale of the JVM when there is no bundle for a locale,
+     * and to the default bundle after that.
+     */
+    private static final ResourceBundle.Control CONTROL = new ResourceBundle.Control() {
+        @Override
+        public Locale getFallbackLocale(String baseName, Locale locale) {
+            return locale.equals(Locale.ENGLISH) ? null : Locale.ENGLISH;
+        }
+    };
+
     /**
      * Retrieves the translated string for the given key using the provided locale.
      * It uses a resource bundle to find the translated string.
@@ -23,7 +37,29 @@ public class ResourceBundleTranslationProviderImpl implements TranslationProvide
      */
     @Override
     public String getTranslation(String key, Locale locale) {
-        ResourceBundle resourceBundle = PropertyResourceBundle.getBundle("messages", locale);
+        ResourceBundle resourceBundle = PropertyResourceBundle.getBundle("messages", locale, CONTROL);
         return resourceBundle.getString(key);
     }
+
+    /**
+     * Retrieves all translations of the resource bundle for the provided locale, including those of its parent bundles.
+     *
+     * @param locale The locale to retrieve the translations for.
+     * @return The translations keyed by their translation key, empty if there is no resource bundle.
+     * @since 1.0.0-beta.1
+     */
+    @Override
+    public Map<String, String> getTranslations(Locale locale) {
+        Map<String, String> translations = new HashMap<>();
+        ResourceBundle resourceBundle;
+        try {
+            resourceBundle = PropertyResourceBundle.getBundle("messages", locale, CONTROL);
+        } catch (MissingResourceException e) {
+            return translations;
+        }
+        for (String key : resourceBundle.keySet()) {
+            translations.put(key, resourceBundle.getString(key));
+        }
+        return translations;
+    }
 }
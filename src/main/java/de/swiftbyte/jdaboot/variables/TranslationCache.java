@@ -0,0 +1,141 @@
+package de.swiftbyte.jdaboot.variables;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.interactions.DiscordLocale;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The TranslationCache class keeps the translations of a translation provider in memory, with one map per Discord locale.
+ * A translation is requested from the provider the first time it is used, including the fallback to other locales the
+ * provider applies, and is then answered from the map of the locale.
+ * <p>
+ * If the provider can list its translations, all of them can be loaded at once with {@link #preload()}.
+ * Translations that appear in several locales share the same string instance.
+ *
+ * @since 1.0.0-beta.1
+ */
+@Slf4j
+public class TranslationCache {
+
+    /**
+     * The text used for translation keys the provider does not know.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public static final String MISSING_TRANSLATION = "MISSING TRANSLATION";
+
+    private static final DiscordLocale[] LOCALES = DiscordLocale.values();
+
+    /**
+     * The translation provider the translations are requested from.
+     *
+     * @since 1.0.0-beta.1
+     */
+    @Getter
+    private final TranslationProvider provider;
+
+    private final Locale[] locales = new Locale[LOCALES.length];
+
+    private volatile Map<String, String>[] translations;
+
+    /**
+     * Constructor for TranslationCache.
+     *
+     * @param provider The translation provider to request the translations from.
+     * @since 1.0.0-beta.1
+     */
+    public TranslationCache(TranslationProvider provider) {
+        this.provider = provider;
+        for (DiscordLocale locale : LOCALES) {
+            locales[locale.ordinal()] = Locale.forLanguageTag(locale.getLocale());
+        }
+        this.translations = emptyMaps();
+    }
+
+    /**
+     * Returns the translation of the specified key in the specified locale.
+     *
+     * @param locale The locale of the translation.
+     * @param key    The translation key.
+     * @return The translation, {@link #MISSING_TRANSLATION} if the provider does not know the key,
+     * or null if the provider returned null.
+     * @since 1.0.0-beta.1
+     */
+    public String get(DiscordLocale locale, String key) {
+        Map<String, String> localeTranslations = translations[locale.ordinal()];
+        String translation = localeTranslations.get(key);
+        if (translation == null) {
+            translation = load(locale, key);
+            if (translation != null) {
+                localeTranslations.putIfAbsent(key, translation);
+            }
+        }
+        return translation;
+    }
+
+    /**
+     * Loads all translations of the provider for every locale, if the provider supports listing its translations.
+     *
+     * @return true if the translations were loaded, false if the provider cannot list its translations.
+     * @since 1.0.0-beta.1
+     */
+    public boolean preload() {
+        Map<String, String>[] loaded = emptyMaps();
+        Map<String, String> interned = new HashMap<>();
+        int count = 0;
+
+        for (DiscordLocale locale : LOCALES) {
+            if (locale == DiscordLocale.UNKNOWN) {
+                continue;
+            }
+            Map<String, String> localeTranslations = provider.getTranslations(locales[locale.ordinal()]);
+            if (localeTranslations == null) {
+                return false;
+            }
+            Map<String, String> target = loaded[locale.ordinal()];
+            for (Map.Entry<String, String> entry : localeTranslations.entrySet()) {
+                if (entry.getValue() != null) {
+                    target.put(entry.getKey(), interned.computeIfAbsent(entry.getValue(), value -> value));
+                }
+            }
+            count += target.size();
+        }
+
+        translations = loaded;
+        log.info("Loaded {} translations ({} distinct texts) for {} locales", count, interned.size(), LOCALES.length - 1);
+        return true;
+    }
+
+    /**
+     * Removes all cached translations, so they are requested from the provider again.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public void invalidate() {
+        translations = emptyMaps();
+    }
+
+    private String load(DiscordLocale locale, String key) {
+        try {
+            return provider.getTranslation(key, locales[locale.ordinal()]);
+        } catch (MissingResourceException e) {
+            log.warn("Translation key not found in resources '{}' at:", key, e);
+            return MISSING_TRANSLATION;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String>[] emptyMaps() {
+        Map<String, String>[] maps = new Map[LOCALES.length];
+        for (int i = 0; i < maps.length; i++) {
+            maps[i] = new ConcurrentHashMap<>();
+        }
+        return maps;
+    }
+}
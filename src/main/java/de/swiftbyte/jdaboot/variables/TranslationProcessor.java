@@ -4,8 +4,8 @@ import de.swiftbyte.jdaboot.JDABootConfigurationManager;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.interactions.DiscordLocale;
 
-import java.util.Locale;
-import java.util.MissingResourceException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -18,6 +18,12 @@ import java.util.regex.Pattern;
 @Slf4j
 public class TranslationProcessor {
 
+    private static final Pattern TRANSLATION_PATTERN = Pattern.compile(Pattern.quote("#{") + "(.*?)" + Pattern.quote("}"));
+
+    private static final List<Runnable> invalidationListeners = new CopyOnWriteArrayList<>();
+
+    private static volatile TranslationCache cache;
+
     /**
      * Processes the translations in the given string using the provided locale.
      * Replaces placeholders in the string with the corresponding translated values.
@@ -29,23 +35,26 @@ public class TranslationProcessor {
      */
     public static String processTranslation(DiscordLocale locale, String old) {
 
-        String newText = old;
-
-        Pattern p = Pattern.compile(Pattern.quote("#{") + "(.*?)" + Pattern.quote("}"));
-        Matcher m = p.matcher(newText);
-
-        while (m.find()) {
-            if (getTranslatedString(locale, m.group().replace("#{", "").replace("}", "")) != null) {
-                newText = newText.replace(m.group(), getTranslatedString(locale, m.group().replace("#{", "").replace("}", "")));
-            }
+        Matcher m = TRANSLATION_PATTERN.matcher(old);
+        if (!m.find()) {
+            return old;
         }
 
-        return newText;
+        StringBuilder newText = new StringBuilder(old.length() + 16);
+        do {
+            String translation = getTranslatedString(locale, m.group(1));
+            m.appendReplacement(newText, Matcher.quoteReplacement(translation == null ? m.group() : translation));
+        } while (m.find());
+        m.appendTail(newText);
+
+        return newText.toString();
 
     }
 
     /**
      * Retrieves the translated string for the given key using the provided locale.
+     * The translation is only requested from the translation provider the first time, afterwards it is taken from the
+     * {@link TranslationCache}.
      *
      * @param locale The locale to use for retrieving the translated string.
      * @param key    The key of the string to translate.
@@ -53,15 +62,63 @@ public class TranslationProcessor {
      * @since alpha.4
      */
     public static String getTranslatedString(DiscordLocale locale, String key) {
-        Locale.setDefault(Locale.ENGLISH);
-        TranslationProvider translationProvider = JDABootConfigurationManager.getTranslationProvider();
-        String translation = "MISSING TRANSLATION";
-        try {
-            translation = translationProvider.getTranslation(key, new Locale(locale.getLocale()));
-        } catch (MissingResourceException e) {
-            log.warn("Translation key not found in resources '{}' at:", key, e);
+        return getCache().get(locale, key);
+    }
+
+    /**
+     * Returns the cache of the current translation provider. A new cache is created when the translation provider was replaced.
+     *
+     * @return The translation cache.
+     * @since 1.0.0-beta.1
+     */
+    public static TranslationCache getCache() {
+        TranslationProvider provider = JDABootConfigurationManager.getTranslationProvider();
+        TranslationCache current = cache;
+        if (current == null || current.getProvider() != provider) {
+            current = new TranslationCache(provider);
+            cache = current;
         }
-        return translation;
+        return current;
+    }
+
+    /**
+     * Clears the cached translations, so they are requested from the translation provider again, and notifies the
+     * invalidation listeners. Call this after the translations of the translation provider changed.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public static void clearCache() {
+        getCache().invalidate();
+        // Rendered translations are parsed as templates as well.
+        VariableTemplate.clearCache();
+        for (Runnable listener : invalidationListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                log.error("Failed to notify a listener about the changed translations", e);
+            }
+        }
+    }
+
+    /**
+     * Adds a listener that is called after the cached translations were cleared, so anything that was built from the
+     * translations, like command localizations or rendered embeds, can be built again.
+     *
+     * @param listener The listener to call.
+     * @since 1.0.0-beta.1
+     */
+    public static void addInvalidationListener(Runnable listener) {
+        invalidationListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener that was added with {@link #addInvalidationListener(Runnable)}, so it is not called anymore.
+     *
+     * @param listener The listener to remove.
+     * @since 1.0.0-beta.1
+     */
+    public static void removeInvalidationListener(Runnable listener) {
+        invalidationListeners.remove(listener);
     }
 
 }
@@ -1,6 +1,7 @@
 package de.swiftbyte.jdaboot.variables;
 
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * The TranslationProvider interface defines a contract for classes that provide translation services.
@@ -20,4 +21,17 @@ public interface TranslationProvider {
      */
     String getTranslation(String key, Locale locale);
 
+    /**
+     * Retrieves all translations for the provided locale, including the translations the locale falls back to.
+     * Used to load all translations at once on startup. Providers that cannot list their translations return null,
+     * their translations are then requested one by one when they are used.
+     *
+     * @param locale The locale to retrieve the translations for.
+     * @return The translations keyed by their translation key, or null if the provider cannot list its translations.
+     * @since 1.0.0-beta.1
+     */
+    default Map<String, String> getTranslations(Locale locale) {
+        return null;
+    }
+
 }
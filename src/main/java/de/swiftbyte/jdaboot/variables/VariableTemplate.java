@@ -0,0 +1,325 @@
+package de.swiftbyte.jdaboot.variables;
+
+import de.swiftbyte.jdaboot.JDABootConfigurationManager;
+import de.swiftbyte.jdaboot.annotation.DefaultVariable;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.interactions.DiscordLocale;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The VariableTemplate class is a string with placeholders that was parsed once into its literal parts and placeholders,
+ * so it can be rendered in a single pass without searching the string again.
+ * <p>
+ * Three kinds of placeholders are supported:
+ * <ul>
+ *     <li>{@code #{key}} is replaced by the translation of the key in the locale of the rendering.</li>
+ *     <li>{@code ${variable}} is replaced by a default variable, a passed variable or a global variable, in this order.</li>
+ *     <li>{@code ?{key}} is replaced by the configuration value of the key.</li>
+ * </ul>
+ * Replaced values may contain placeholders themselves, which are rendered as well, up to a depth of {@value #MAX_DEPTH}.
+ * A placeholder that refers to itself, directly or through other values, is left as it is, just like unknown placeholders.
+ *
+ * @since 1.0.0-beta.1
+ */
+@Slf4j
+public final class VariableTemplate {
+
+    /**
+     * The maximum depth of placeholders inside the values of placeholders.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public static final int MAX_DEPTH = 16;
+
+    private static final int MAX_CACHED_TEMPLATES = 8192;
+
+    private static final Map<String, VariableTemplate> CACHE = new ConcurrentHashMap<>();
+
+    private static final char LITERAL = 0;
+
+    private static final char TRANSLATION = '#';
+
+    private static final char VARIABLE = '$';
+
+    private static final char CONFIG = '?';
+
+    private final String source;
+
+    private final Token[] tokens;
+
+    private VariableTemplate(String source, Token[] tokens) {
+        this.source = source;
+        this.tokens = tokens;
+    }
+
+    /**
+     * Returns the template of the specified string. Templates are parsed once and then taken from a cache, which is read
+     * without locking. The cache is cleared when it is full and when the translations change.
+     * Strings that are rendered often, like the values of annotations, should be parsed once with {@link #parse(String)}
+     * and kept by the caller instead.
+     *
+     * @param source The string with placeholders.
+     * @return The template.
+     * @since 1.0.0-beta.1
+     */
+    public static VariableTemplate of(String source) {
+        VariableTemplate template = CACHE.get(source);
+        if (template == null) {
+            template = parse(source);
+            if (CACHE.size() >= MAX_CACHED_TEMPLATES) {
+                CACHE.clear();
+            }
+            CACHE.put(source, template);
+        }
+        return template;
+    }
+
+    /**
+     * Removes all templates from the cache.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Parses the specified string without using the cache.
+     *
+     * @param source The string with placeholders.
+     * @return The template.
+     * @since 1.0.0-beta.1
+     */
+    public static VariableTemplate parse(String source) {
+        List<Token> tokens = new ArrayList<>();
+        int literalStart = 0;
+        int index = 0;
+
+        while (index < source.length() - 1) {
+            char kind = source.charAt(index);
+            if ((kind != TRANSLATION && kind != VARIABLE && kind != CONFIG) || source.charAt(index + 1) != '{') {
+                index++;
+                continue;
+            }
+
+            int end = findEnd(source, index + 2);
+            if (end < 0) {
+                index++;
+                continue;
+            }
+
+            if (index > literalStart) {
+                tokens.add(new Token(LITERAL, source.substring(literalStart, index), null));
+            }
+            tokens.add(new Token(kind, source.substring(index + 2, end), source.substring(index, end + 1)));
+            index = end + 1;
+            literalStart = index;
+        }
+
+        if (tokens.isEmpty()) {
+            return new VariableTemplate(source, new Token[0]);
+        }
+        if (literalStart < source.length()) {
+            tokens.add(new Token(LITERAL, source.substring(literalStart), null));
+        }
+        return new VariableTemplate(source, tokens.toArray(new Token[0]));
+    }
+
+    /**
+     * Returns the index of the closing brace of a placeholder. Like the placeholder patterns used before, a placeholder
+     * ends at the first closing brace and cannot span multiple lines.
+     */
+    private static int findEnd(String source, int from) {
+        for (int i = from; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '}') {
+                return i;
+            } else if (c == '\n' || c == '\r') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether the template contains no placeholders.
+     *
+     * @return true if rendering the template always returns the source string.
+     * @since 1.0.0-beta.1
+     */
+    public boolean isLiteral() {
+        return tokens.length == 0;
+    }
+
+    /**
+     * Returns whether the template only contains translation placeholders, so it renders to the same string for every
+     * rendering in the same locale, unless the translations themselves contain other placeholders.
+     *
+     * @return true if the template contains no variable or configuration placeholders.
+     * @since 1.0.0-beta.1
+     */
+    public boolean isTranslationOnly() {
+        for (Token token : tokens) {
+            if (token.kind != LITERAL && token.kind != TRANSLATION) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param locale           The locale to translate {@code #{key}} placeholders in, or null to leave them as they are.
+     * @param variables        The variables passed to the rendering, may be null.
+     * @param defaultVariables The default variables of the rendering, may be null.
+     * @return The rendered string.
+     * @since 1.0.0-beta.1
+     */
+    public String render(DiscordLocale locale, Map<String, String> variables, DefaultVariable[] defaultVariables) {
+        return render(locale, variables, defaultVariables, null);
+    }
+
+    /**
+     * Renders the template and records which kinds of values the rendered string depends on.
+     *
+     * @param locale           The locale to translate {@code #{key}} placeholders in, or null to leave them as they are.
+     * @param variables        The variables passed to the rendering, may be null.
+     * @param defaultVariables The default variables of the rendering, may be null.
+     * @param dependencies     The dependencies the rendering is recorded in, may be null.
+     * @return The rendered string.
+     * @since 1.0.0-beta.1
+     */
+    public String render(DiscordLocale locale, Map<String, String> variables, DefaultVariable[] defaultVariables, Dependencies dependencies) {
+        if (tokens.length == 0) {
+            return source;
+        }
+
+        StringBuilder builder = new StringBuilder(source.length() + 32);
+        render(builder, new Context(locale, variables, defaultVariables, dependencies), 0);
+        return builder.toString();
+    }
+
+    private void render(StringBuilder builder, Context context, int depth) {
+        for (Token token : tokens) {
+            if (token.kind == LITERAL) {
+                builder.append(token.text);
+                continue;
+            }
+
+            String value = resolve(token, context);
+            if (value == null) {
+                builder.append(token.raw);
+            } else if (value.indexOf('{') < 0) {
+                builder.append(value);
+            } else if (depth >= MAX_DEPTH || context.expanding.contains(token.raw)) {
+                log.warn("Not rendering the placeholder '{}' in '{}', because it refers to itself or is nested too deeply", token.raw, source);
+                builder.append(token.raw);
+            } else {
+                VariableTemplate nested = token.kind == VARIABLE && context.variables != null && context.variables.containsKey(token.text)
+                        ? parse(value)
+                        : of(value);
+                context.expanding.add(token.raw);
+                nested.render(builder, context, depth + 1);
+                context.expanding.remove(context.expanding.size() - 1);
+            }
+        }
+    }
+
+    private static String resolve(Token token, Context context) {
+        return switch (token.kind) {
+            case TRANSLATION -> context.locale == null ? null : TranslationProcessor.getTranslatedString(context.locale, token.text);
+            case VARIABLE -> resolveVariable(token.text, context);
+            case CONFIG -> JDABootConfigurationManager.getConfigProviderChain().getString(token.text, null);
+            default -> token.text;
+        };
+    }
+
+    private static String resolveVariable(String key, Context context) {
+        if (context.dependencies != null) {
+            context.dependencies.variables = true;
+        }
+        if (context.defaultVariables != null) {
+            for (DefaultVariable variable : context.defaultVariables) {
+                if (variable.variable().equals(key)) {
+                    return variable.value();
+                }
+            }
+        }
+        if (context.variables != null && context.variables.containsKey(key)) {
+            return context.variables.get(key);
+        }
+        if (context.dependencies != null) {
+            context.dependencies.globalVariables = true;
+        }
+        if (GlobalVariables.hasVariable(key)) {
+            return GlobalVariables.get(key);
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    /**
+     * The Dependencies class records which kinds of values renderings depended on, so callers can decide whether the
+     * rendered strings can be reused.
+     *
+     * @since 1.0.0-beta.1
+     */
+    public static final class Dependencies {
+
+        private boolean variables;
+
+        private boolean globalVariables;
+
+        /**
+         * Returns whether a {@code ${variable}} placeholder was rendered, so the result depends on the passed variables.
+         *
+         * @return true if a variable placeholder was rendered.
+         * @since 1.0.0-beta.1
+         */
+        public boolean usesVariables() {
+            return variables;
+        }
+
+        /**
+         * Returns whether a variable was looked up in the global variables, whose values can change at any time.
+         *
+         * @return true if the global variables were used.
+         * @since 1.0.0-beta.1
+         */
+        public boolean usesGlobalVariables() {
+            return globalVariables;
+        }
+    }
+
+    private record Token(char kind, String text, String raw) {
+    }
+
+    private static final class Context {
+
+        private final DiscordLocale locale;
+
+        private final Map<String, String> variables;
+
+        private final DefaultVariable[] defaultVariables;
+
+        private final Dependencies dependencies;
+
+        private final List<String> expanding = new ArrayList<>(4);
+
+        private Context(DiscordLocale locale, Map<String, String> variables, DefaultVariable[] defaultVariables, Dependencies dependencies) {
+            this.locale = locale;
+            this.variables = variables;
+            this.defaultVariables = defaultVariables;
+            this.dependencies = dependencies;
+        }
+    }
+}
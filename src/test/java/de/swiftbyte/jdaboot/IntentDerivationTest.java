@@ -0,0 +1,58 @@
+package de.swiftbyte.jdaboot;
+
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.guild.GenericGuildEvent;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import net.dv8tion.jda.api.events.message.react.MessageReactionAddEvent;
+import net.dv8tion.jda.api.requests.GatewayIntent;
+import net.dv8tion.jda.api.utils.cache.CacheFlag;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntentDerivationTest {
+
+    private static EnumSet<GatewayIntent> derive(Set<Class<? extends GenericEvent>> eventTypes) {
+        return JDABootConfigurationManager.deriveIntents(List.of(), eventTypes, false, List.of(), MemberCachePolicyConfiguration.NONE);
+    }
+
+    @Test
+    void derivesIntentsOfConcreteEvents() {
+        EnumSet<GatewayIntent> intents = derive(Set.of(MessageReceivedEvent.class, MessageReactionAddEvent.class, SlashCommandInteractionEvent.class));
+
+        assertEquals(EnumSet.of(GatewayIntent.GUILD_MESSAGES, GatewayIntent.DIRECT_MESSAGES,
+                GatewayIntent.GUILD_MESSAGE_REACTIONS, GatewayIntent.DIRECT_MESSAGE_REACTIONS), intents);
+    }
+
+    @Test
+    void derivesIntentsOfSubtypesForSupertypeHandlers() {
+        EnumSet<GatewayIntent> intents = derive(Set.of(GenericGuildEvent.class));
+
+        assertTrue(intents.contains(GatewayIntent.GUILD_MODERATION));
+        assertTrue(intents.contains(GatewayIntent.GUILD_VOICE_STATES));
+        assertFalse(intents.contains(GatewayIntent.GUILD_MEMBERS), "privileged intents must not be derived for supertypes");
+        assertFalse(intents.contains(GatewayIntent.GUILD_PRESENCES), "privileged intents must not be derived for supertypes");
+    }
+
+    @Test
+    void keepsConfiguredIntentsAndAddsPolicyAndCacheFlagIntents() {
+        EnumSet<GatewayIntent> intents = JDABootConfigurationManager.deriveIntents(List.of(GatewayIntent.GUILD_MEMBERS), Set.of(),
+                true, List.of(CacheFlag.VOICE_STATE), MemberCachePolicyConfiguration.ONLINE);
+
+        assertEquals(EnumSet.of(GatewayIntent.GUILD_MEMBERS, GatewayIntent.MESSAGE_CONTENT, GatewayIntent.GUILD_VOICE_STATES,
+                GatewayIntent.GUILD_PRESENCES), intents);
+    }
+
+    @Test
+    void defaultMemberCachePolicyDoesNotForceVoiceStates() {
+        EnumSet<GatewayIntent> intents = JDABootConfigurationManager.deriveIntents(List.of(), Set.of(), false, List.of(),
+                MemberCachePolicyConfiguration.DEFAULT);
+
+        assertTrue(intents.isEmpty());
+    }
+}
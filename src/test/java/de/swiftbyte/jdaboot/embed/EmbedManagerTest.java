@@ -0,0 +1,86 @@
+package de.swiftbyte.jdaboot.embed;
+
+import de.swiftbyte.jdaboot.annotation.embed.Embed;
+import de.swiftbyte.jdaboot.annotation.embed.EmbedField;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmbedManagerTest {
+
+    @Embed(id = "base", title = "Base title", description = "Base description", fields = @EmbedField(title = "base field"))
+    private Object base;
+
+    @Embed(id = "child", basedOn = "base", title = "${title}", fields = @EmbedField(title = "child field"))
+    private Object child;
+
+    @Embed(id = "first", basedOn = "second", title = "First")
+    private Object first;
+
+    @Embed(id = "second", basedOn = "first", description = "Second")
+    private Object second;
+
+    @Embed(id = "self", basedOn = "self", title = "Self")
+    private Object self;
+
+    @Embed(id = "orphan", basedOn = "missing", title = "Orphan")
+    private Object orphan;
+
+    private final Map<String, TemplateEmbed> templates = new HashMap<>();
+
+    EmbedManagerTest() throws NoSuchFieldException {
+        for (String name : List.of("base", "child", "first", "second", "self", "orphan")) {
+            Embed embed = EmbedManagerTest.class.getDeclaredField(name).getAnnotation(Embed.class);
+            templates.put(embed.id(), new TemplateEmbed(embed));
+        }
+    }
+
+    private ResolvedEmbed resolve(String id) {
+        return EmbedManager.resolve(templates.get(id), templates);
+    }
+
+    private static List<String> values(ResolvedEmbed.Property[] properties) {
+        return Arrays.stream(properties).map(property -> property.value().toString()).toList();
+    }
+
+    @Test
+    void prefersTheMostSpecificEmbedAndCollectsFieldsFromTheBase() {
+        ResolvedEmbed resolved = resolve("child");
+
+        assertEquals(List.of("${title}", "Base title"), values(resolved.titles));
+        assertEquals(List.of("Base description"), values(resolved.descriptions));
+        assertEquals(List.of("base field", "child field"),
+                Arrays.stream(resolved.fields).map(field -> field.title().toString()).toList());
+        assertFalse(resolved.isStatic());
+        assertTrue(resolve("base").isStatic());
+    }
+
+    @Test
+    void cutsChainsThatLeadBackToThemselves() {
+        ResolvedEmbed first = resolve("first");
+        ResolvedEmbed second = resolve("second");
+
+        assertEquals(List.of("First"), values(first.titles));
+        assertEquals(List.of("Second"), values(first.descriptions));
+        assertEquals(List.of("First"), values(second.titles));
+        assertEquals(List.of("Second"), values(second.descriptions));
+    }
+
+    @Test
+    void ignoresEmbedsBasedOnThemselves() {
+        assertEquals(List.of("Self"), values(resolve("self").titles));
+    }
+
+    @Test
+    void endsChainsAtUnknownEmbeds() {
+        ResolvedEmbed resolved = resolve("orphan");
+
+        assertEquals(List.of("Orphan"), values(resolved.titles));
+        assertEquals(0, resolved.descriptions.length);
+    }
+}
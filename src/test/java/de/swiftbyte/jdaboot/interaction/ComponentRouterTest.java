@@ -0,0 +1,103 @@
+package de.swiftbyte.jdaboot.interaction;
+
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComponentRouterTest {
+
+    private final ComponentRouter router = new ComponentRouter(new InteractionWatchdog(Duration.ZERO));
+
+    private final List<HashMap<String, String>> received = new ArrayList<>();
+
+    private void registerButton(String id) {
+        assertTrue(router.register(ComponentRouter.ComponentType.BUTTON, id, context -> received.add(context.getVariables())));
+    }
+
+    private void click(String customId) {
+        router.dispatch(ComponentRouter.ComponentType.BUTTON, (ButtonInteractionEvent) null, customId);
+    }
+
+    @Test
+    void passesAFreshMapToComponentsWithoutVariables() {
+        registerButton("confirm");
+
+        click("confirm");
+        click("confirm;");
+
+        assertEquals(2, received.size());
+        assertTrue(received.get(0).isEmpty());
+        assertNotSame(received.get(0), received.get(1));
+        received.get(0).put("modified", "true");
+        assertTrue(received.get(1).isEmpty());
+        assertEquals(2, router.getDispatchCount(ComponentRouter.ComponentType.BUTTON, "confirm"));
+    }
+
+    @Test
+    void decodesInlineVariables() {
+        registerButton("confirm");
+
+        click("confirm;" + ComponentVariableTransfer.encode(Map.of("user", "42")));
+
+        assertEquals(List.of(Map.of("user", "42")), received);
+    }
+
+    @Test
+    void passesNullForMalformedVariables() {
+        registerButton("confirm");
+
+        click("confirm;" + ComponentVariableTransfer.INLINE_MARKER + "AQ");
+
+        assertEquals(1, received.size());
+        assertNull(received.get(0));
+    }
+
+    @Test
+    void matchesTheWholeComponentId() {
+        registerButton("a");
+        registerButton("ab");
+
+        click("ab;" + ComponentVariableTransfer.encode(Map.of("id", "ab")));
+        click("abc");
+        click("a");
+
+        assertEquals(1, router.getDispatchCount(ComponentRouter.ComponentType.BUTTON, "ab"));
+        assertEquals(1, router.getDispatchCount(ComponentRouter.ComponentType.BUTTON, "a"));
+        assertEquals(1, router.getUnroutedCount());
+    }
+
+    @Test
+    void separatesComponentTypes() {
+        registerButton("menu");
+
+        assertFalse(router.register(ComponentRouter.ComponentType.BUTTON, "menu", context -> fail("duplicate was registered")));
+        assertTrue(router.register(ComponentRouter.ComponentType.STRING_SELECT_MENU, "menu", context -> fail("wrong type was dispatched")));
+
+        click("menu");
+
+        assertEquals(1, received.size());
+        assertEquals(Map.of("button:menu", 1L, "string select menu:menu", 0L), router.getDispatchCounts());
+    }
+
+    @Test
+    void findsAllComponentsAfterGrowingTheTable() {
+        for (int i = 0; i < 500; i++) {
+            registerButton("button-" + i);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            click("button-" + i);
+        }
+
+        assertEquals(500, received.size());
+        assertEquals(0, router.getUnroutedCount());
+        assertEquals(1, router.getDispatchCount(ComponentRouter.ComponentType.BUTTON, "button-499"));
+    }
+}
@@ -0,0 +1,100 @@
+package de.swiftbyte.jdaboot.interaction;
+
+import de.swiftbyte.jdaboot.JDABootConfigurationManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComponentVariableTransferTest {
+
+    private ComponentVariableStore store;
+
+    private static void setComponentVariableStore(ComponentVariableStore store) throws ReflectiveOperationException {
+        Field field = JDABootConfigurationManager.class.getDeclaredField("componentVariableStore");
+        field.setAccessible(true);
+        field.set(null, store);
+    }
+
+    private static String encodeBytes(int... bytes) {
+        byte[] data = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            data[i] = (byte) bytes[i];
+        }
+        return ComponentVariableTransfer.INLINE_MARKER + Base64.getUrlEncoder().withoutPadding().encodeToString(data);
+    }
+
+    @BeforeEach
+    void setUp() throws ReflectiveOperationException {
+        store = new ComponentVariableStore(16, Duration.ofMinutes(1), EvictionPolicy.LRU);
+        setComponentVariableStore(store);
+    }
+
+    @AfterEach
+    void tearDown() throws ReflectiveOperationException {
+        setComponentVariableStore(null);
+    }
+
+    @Test
+    void decodesEncodedVariables() {
+        HashMap<String, String> variables = new HashMap<>();
+        variables.put("user", "Ünïcødé 🎉");
+        variables.put("", "empty key");
+        variables.put("empty", "");
+        variables.put("separator", "a;b~c!d");
+        variables.put("long", "x".repeat(300));
+
+        assertEquals(variables, ComponentVariableTransfer.decode(ComponentVariableTransfer.encode(variables)));
+        assertEquals(Map.of(), ComponentVariableTransfer.decode(ComponentVariableTransfer.encode(Map.of())));
+    }
+
+    @Test
+    void encodesSmallVariablesIntoTheCustomId() {
+        HashMap<String, String> variables = new HashMap<>(Map.of("user", "42"));
+
+        String customId = ComponentVariableTransfer.createComponentId("confirm", variables, VariableTransferMode.INLINE);
+        String variableId = customId.substring(customId.indexOf(';') + 1);
+
+        assertTrue(customId.startsWith("confirm;" + ComponentVariableTransfer.INLINE_MARKER));
+        assertEquals(variables, ComponentVariableTransfer.getVariables(variableId));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void keepsVariablesInTheStoreWhenTheCustomIdWouldBeTooLong() {
+        HashMap<String, String> variables = new HashMap<>(Map.of("text", "x".repeat(ComponentVariableTransfer.MAX_CUSTOM_ID_LENGTH)));
+
+        String customId = ComponentVariableTransfer.createComponentId("confirm", variables, VariableTransferMode.INLINE);
+        String variableId = customId.substring(customId.indexOf(';') + 1);
+
+        assertTrue(customId.length() <= ComponentVariableTransfer.MAX_CUSTOM_ID_LENGTH);
+        assertNotEquals(ComponentVariableTransfer.INLINE_MARKER, variableId.charAt(0));
+        assertEquals(1, store.size());
+        assertEquals(variables, ComponentVariableTransfer.getVariables(variableId));
+    }
+
+    @Test
+    void rejectsMalformedVariables() {
+        assertThrows(IllegalArgumentException.class, () -> ComponentVariableTransfer.decode(""), "missing marker");
+        assertThrows(IllegalArgumentException.class, () -> ComponentVariableTransfer.decode("AQE"), "missing marker");
+        assertThrows(IllegalArgumentException.class, () -> ComponentVariableTransfer.decode("~not base64!"), "invalid base64");
+        assertThrows(IllegalArgumentException.class, () -> ComponentVariableTransfer.decode(encodeBytes(5, 'a')), "truncated value");
+        assertThrows(IllegalArgumentException.class, () -> ComponentVariableTransfer.decode(encodeBytes(1, 'a')), "key without value");
+        assertThrows(IllegalArgumentException.class, () -> ComponentVariableTransfer.decode(encodeBytes(0x80)), "unterminated length");
+        assertThrows(IllegalArgumentException.class, () -> ComponentVariableTransfer.decode(encodeBytes(0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0x01)), "length overflow");
+    }
+
+    @Test
+    void resolvesMalformedVariablesToNull() {
+        assertNull(ComponentVariableTransfer.getVariables(encodeBytes(1, 'a')));
+        assertNull(ComponentVariableTransfer.getVariables("~%%%"));
+        assertNull(ComponentVariableTransfer.getVariables("unknown-id"));
+    }
+}
@@ -0,0 +1,119 @@
+package de.swiftbyte.jdaboot.interaction;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentComponentVariableStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private PersistentComponentVariableStore open() throws IOException {
+        return new PersistentComponentVariableStore(directory, Duration.ZERO, Duration.ZERO);
+    }
+
+    private List<String> files() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    @Test
+    void compactionKeepsLatestVariablesAndReplacesFiles() throws IOException {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        try (PersistentComponentVariableStore store = open()) {
+            store.put(first, Map.of("value", "old"));
+            store.put(first, Map.of("value", "new"));
+            store.put(second, Map.of("value", "second"));
+            long logSize = store.getLogSize();
+
+            store.compact();
+
+            assertTrue(store.getLogSize() < logSize);
+            assertEquals(Map.of("value", "new"), store.get(first));
+            assertEquals(Map.of("value", "second"), store.get(second));
+            assertEquals(3, files().size(), "only the manifest, the log and the index must remain");
+        }
+
+        try (PersistentComponentVariableStore store = open()) {
+            assertEquals(2, store.size());
+            assertEquals(Map.of("value", "new"), store.get(first));
+        }
+    }
+
+    @Test
+    void keepsVariablesStoredWhileCompacting() throws Exception {
+        UUID[] ids = new UUID[2_000];
+
+        try (PersistentComponentVariableStore store = open()) {
+            for (int i = 0; i < ids.length / 2; i++) {
+                ids[i] = UUID.randomUUID();
+                store.put(ids[i], Map.of("index", Integer.toString(i)));
+            }
+
+            Thread writer = new Thread(() -> {
+                try {
+                    for (int i = ids.length / 2; i < ids.length; i++) {
+                        ids[i] = UUID.randomUUID();
+                        store.put(ids[i], Map.of("index", Integer.toString(i)));
+                    }
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            writer.start();
+            store.compact();
+            writer.join();
+
+            for (int i = 0; i < ids.length; i++) {
+                assertEquals(Map.of("index", Integer.toString(i)), store.get(ids[i]));
+            }
+        }
+    }
+
+    @Test
+    void growingTheIndexKeepsAllVariables() throws IOException {
+        UUID[] ids = new UUID[50_000];
+
+        try (PersistentComponentVariableStore store = open()) {
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = UUID.randomUUID();
+                store.put(ids[i], Map.of("index", Integer.toString(i)));
+            }
+            assertEquals(3, files().size(), "the index that was replaced must be deleted");
+        }
+
+        try (PersistentComponentVariableStore store = open()) {
+            assertEquals(ids.length, store.size());
+            assertEquals(Map.of("index", "0"), store.get(ids[0]));
+            assertEquals(Map.of("index", Integer.toString(ids.length - 1)), store.get(ids[ids.length - 1]));
+        }
+    }
+
+    @Test
+    void removesFilesOfInterruptedCompactions() throws IOException {
+        try (PersistentComponentVariableStore store = open()) {
+            store.put(UUID.randomUUID(), Map.of("value", "kept"));
+        }
+        Files.writeString(directory.resolve("variables-0000000000000001.log"), "left behind");
+        Files.writeString(directory.resolve("variables-0000000000000001.idx"), "left behind");
+
+        try (PersistentComponentVariableStore store = open()) {
+            assertEquals(1, store.size());
+            assertEquals(3, files().size());
+        }
+    }
+}
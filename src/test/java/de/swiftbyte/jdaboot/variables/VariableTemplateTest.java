@@ -0,0 +1,123 @@
+package de.swiftbyte.jdaboot.variables;
+
+import de.swiftbyte.jdaboot.annotation.DefaultVariable;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VariableTemplateTest {
+
+    private static DefaultVariable defaultVariable(String variable, String value) {
+        return new DefaultVariable() {
+            @Override
+            public String variable() {
+                return variable;
+            }
+
+            @Override
+            public String value() {
+                return value;
+            }
+
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return DefaultVariable.class;
+            }
+        };
+    }
+
+    private static String render(String source, Map<String, String> variables) {
+        return VariableTemplate.parse(source).render(null, variables, null);
+    }
+
+    @Test
+    void rendersVariablesBetweenLiterals() {
+        assertEquals("Hello Alice, you have 3 credits.",
+                render("Hello ${name}, you have ${credits} credits.", Map.of("name", "Alice", "credits", "3")));
+    }
+
+    @Test
+    void keepsStringsWithoutPlaceholders() {
+        VariableTemplate template = VariableTemplate.parse("No placeholders, only {braces} and $ signs");
+
+        assertTrue(template.isLiteral());
+        assertEquals("No placeholders, only {braces} and $ signs", template.render(null, null, null));
+    }
+
+    @Test
+    void leavesUnknownAndUnterminatedPlaceholders() {
+        assertEquals("${unknown} and ${open", render("${unknown} and ${open", Map.of()));
+        assertEquals("${line\nbreak}", render("${line\nbreak}", Map.of("line\nbreak", "value")));
+        assertEquals("#{key}", render("#{key}", Map.of()), "translations are left as they are without a locale");
+    }
+
+    @Test
+    void endsPlaceholdersAtTheFirstClosingBrace() {
+        assertEquals("value}", render("${key}}", Map.of("key", "value")));
+    }
+
+    @Test
+    void prefersDefaultVariablesOverPassedAndGlobalVariables() {
+        VariableTemplate template = VariableTemplate.parse("${template-test-key}");
+        GlobalVariables.set("template-test-key", "global");
+
+        assertEquals("default", template.render(null, Map.of("template-test-key", "passed"),
+                new DefaultVariable[]{defaultVariable("template-test-key", "default")}));
+        assertEquals("passed", template.render(null, Map.of("template-test-key", "passed"), null));
+        assertEquals("global", template.render(null, Map.of(), null));
+    }
+
+    @Test
+    void rendersPlaceholdersInsideValues() {
+        assertEquals("Hello Alice!", render("${greeting}", Map.of("greeting", "Hello ${name}!", "name", "Alice")));
+    }
+
+    @Test
+    void leavesSelfReferencingPlaceholders() {
+        assertEquals("loop ${a}", render("${a}", Map.of("a", "loop ${a}")));
+        assertEquals("x y ${a}", render("${a}", Map.of("a", "x ${b}", "b", "y ${a}")));
+    }
+
+    @Test
+    void repeatsPlaceholdersThatAreNotNestedInThemselves() {
+        assertEquals("v v", render("${a} ${a}", Map.of("a", "${b}", "b", "v")));
+    }
+
+    @Test
+    void stopsAtTheMaximumDepth() {
+        Map<String, String> variables = new HashMap<>();
+        for (int i = 0; i < VariableTemplate.MAX_DEPTH + 4; i++) {
+            variables.put("v" + i, "${v" + (i + 1) + "}");
+        }
+
+        String rendered = render("${v0}", variables);
+
+        assertEquals("${v" + VariableTemplate.MAX_DEPTH + "}", rendered);
+    }
+
+    @Test
+    void recordsWhetherVariablesWereUsed() {
+        VariableTemplate.Dependencies literal = new VariableTemplate.Dependencies();
+        VariableTemplate.parse("#{title}").render(null, null, null, literal);
+        VariableTemplate.Dependencies variable = new VariableTemplate.Dependencies();
+        VariableTemplate.parse("${name}").render(null, Map.of("name", "Alice"), null, variable);
+
+        assertFalse(literal.usesVariables());
+        assertTrue(VariableTemplate.parse("#{title}").isTranslationOnly());
+        assertTrue(variable.usesVariables());
+        assertFalse(variable.usesGlobalVariables());
+    }
+
+    @Test
+    void cachesTemplatesUntilCleared() {
+        VariableTemplate template = VariableTemplate.of("${cached}");
+
+        assertSame(template, VariableTemplate.of("${cached}"));
+        VariableTemplate.clearCache();
+        assertNotSame(template, VariableTemplate.of("${cached}"));
+    }
+}
@@ -2,6 +2,7 @@ package de.swiftbyte.test;
 
 import de.swiftbyte.jdaboot.annotation.interaction.button.ButtonDefinition;
 import de.swiftbyte.jdaboot.annotation.interaction.modal.ModalByClass;
+import de.swiftbyte.jdaboot.interaction.ComponentContext;
 import de.swiftbyte.jdaboot.interaction.button.ButtonExecutor;
 import de.swiftbyte.jdaboot.interaction.modal.AdvancedModal;
 import de.swiftbyte.jdaboot.interaction.modal.TemplateModal;
@@ -22,9 +23,10 @@ public class TestButton implements ButtonExecutor {
     private TemplateModal modal;
 
     @Override
-    public void onButtonClick(ButtonInteractionEvent event, HashMap<String, String> variables) {
+    public void onButtonClick(ComponentContext<ButtonInteractionEvent> context) {
+        HashMap<String, String> variables = context.getVariables();
         System.out.println(variables.get("test"));
-        event.replyModal(modal.advancedModal().setVariable("title", variables.get("test")).setVariable("user", variables.get("user")).addDynamicRow(new AdvancedModal.DynamicModalRow("dynamic_test", "Dynamic Test", TextInputStyle.SHORT)).build()).queue();
+        context.getEvent().replyModal(modal.advancedModal().setVariable("title", variables.get("test")).setVariable("user", variables.get("user")).addDynamicRow(new AdvancedModal.DynamicModalRow("dynamic_test", "Dynamic Test", TextInputStyle.SHORT)).build()).queue();
     }
 
 }
\ No newline at end of file
@@ -11,12 +11,14 @@ import de.swiftbyte.jdaboot.annotation.interaction.selection.StringSelectMenuByC
 import de.swiftbyte.jdaboot.embed.AdvancedEmbed;
 import de.swiftbyte.jdaboot.embed.TemplateEmbed;
 import de.swiftbyte.jdaboot.interaction.button.TemplateButton;
+import de.swiftbyte.jdaboot.interaction.command.CommandContext;
 import de.swiftbyte.jdaboot.interaction.command.SlashCommandExecutor;
 import de.swiftbyte.jdaboot.interaction.selection.TemplateSelectMenu;
 import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInteractionEvent;
 import net.dv8tion.jda.api.interactions.AutoCompleteQuery;
 import net.dv8tion.jda.api.interactions.commands.Command;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
+import net.dv8tion.jda.api.utils.messages.MessageCreateBuilder;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -57,7 +59,7 @@ public class TestCommand extends SlashCommandExecutor {
     private TemplateSelectMenu menu2;
 
     @Override
-    public void onCommand() {
+    public void onCommand(CommandContext context) {
 
         AdvancedEmbed advancedEmbed = embed.advancedEmbed();
         advancedEmbed.setVariable("test", "Test");
@@ -65,17 +67,18 @@ public class TestCommand extends SlashCommandExecutor {
         advancedEmbed.setVariable("test4", "test4");
         advancedEmbed.addDynamicField("Dynamisches Feld", "${test}", false);
 
-        event.replyEmbeds(advancedEmbed.build())
+        context.reply(new MessageCreateBuilder()
+                .setEmbeds(advancedEmbed.build())
                 .addActionRow(button.advancedButton()
                         .setVariable("test", "Transferred Variable")
-                        .setVariable("user", event.getUser().getName())
+                        .setVariable("user", context.getUser().getName())
                         .build())
                 .addActionRow(menu.advancedSelectMenu()
                         .setVariable("test", "Test Variable")
                         .addDynamicOption("Dynamic Option", "Dynamic Option")
                         .build())
                 .addActionRow(menu2.advancedSelectMenu().build())
-                .queue();
+                .build());
 
     }
 
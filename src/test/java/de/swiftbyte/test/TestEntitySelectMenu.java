@@ -1,11 +1,10 @@
 package de.swiftbyte.test;
 
 import de.swiftbyte.jdaboot.annotation.interaction.selection.EntitySelectMenuDefinition;
+import de.swiftbyte.jdaboot.interaction.ComponentContext;
 import de.swiftbyte.jdaboot.interaction.selection.EntitySelectMenuExecutor;
 import net.dv8tion.jda.api.events.interaction.component.EntitySelectInteractionEvent;
 
-import java.util.HashMap;
-
 @EntitySelectMenuDefinition(
         placeholder = "Placeholder",
         enableChannel = true
@@ -13,9 +12,9 @@ import java.util.HashMap;
 public class TestEntitySelectMenu implements EntitySelectMenuExecutor {
 
     @Override
-    public void onSelectMenuSubmit(EntitySelectInteractionEvent event, HashMap<String, String> variables) {
+    public void onSelectMenuSubmit(ComponentContext<EntitySelectInteractionEvent> context) {
 
-        event.reply("It works!").queue();
+        context.reply("It works!");
 
     }
 }
@@ -3,11 +3,10 @@ package de.swiftbyte.test;
 
 import de.swiftbyte.jdaboot.annotation.interaction.modal.ModalDefinition;
 import de.swiftbyte.jdaboot.annotation.interaction.modal.ModalRow;
+import de.swiftbyte.jdaboot.interaction.ComponentContext;
 import de.swiftbyte.jdaboot.interaction.modal.ModalExecutor;
 import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 
-import java.util.HashMap;
-
 @ModalDefinition(
         title = "${title} Modal",
         rows = {
@@ -39,7 +38,7 @@ import java.util.HashMap;
 public class TestModal implements ModalExecutor {
 
     @Override
-    public void onModalSubmit(ModalInteractionEvent event, HashMap<String, String> variables) {
-        event.reply("Test Modal Submitted! Command run by " + variables.get("user")).setEphemeral(true).queue();
+    public void onModalSubmit(ComponentContext<ModalInteractionEvent> context) {
+        context.replyEphemeral("Test Modal Submitted! Command run by " + context.getVariables().get("user"));
     }
 }
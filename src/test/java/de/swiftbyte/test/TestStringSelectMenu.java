@@ -2,12 +2,11 @@ package de.swiftbyte.test;
 
 import de.swiftbyte.jdaboot.annotation.interaction.selection.StringSelectMenuDefinition;
 import de.swiftbyte.jdaboot.annotation.interaction.selection.StringSelectOption;
+import de.swiftbyte.jdaboot.interaction.ComponentContext;
 import de.swiftbyte.jdaboot.interaction.selection.StringSelectMenuExecutor;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
 
-import java.util.HashMap;
-
 @Slf4j
 @StringSelectMenuDefinition(
         options = {
@@ -20,9 +19,9 @@ import java.util.HashMap;
 public class TestStringSelectMenu implements StringSelectMenuExecutor {
 
     @Override
-    public void onSelectMenuSubmit(StringSelectInteractionEvent event, HashMap<String, String> variables) {
+    public void onSelectMenuSubmit(ComponentContext<StringSelectInteractionEvent> context) {
 
-        event.reply("Working! Selection[0]: " + event.getSelectedOptions().get(0).getValue()).queue();
+        context.reply("Working! Selection[0]: " + context.getEvent().getSelectedOptions().get(0).getValue());
 
     }
 }